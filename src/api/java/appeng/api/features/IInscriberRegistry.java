@@ -73,6 +73,19 @@ public interface IInscriberRegistry
 	@Nonnull
 	Set<ItemStack> getInputs();
 
+	/**
+	 * Recipes which might accept the item as middle input, their inputs and presses still have to be compared.
+	 *
+	 * @param input item in the middle slot
+	 *
+	 * @return candidate recipes, by default all of them
+	 */
+	@Nonnull
+	default Collection<IInscriberRecipe> getRecipesForInput( @Nonnull ItemStack input )
+	{
+		return this.getRecipes();
+	}
+
 	/**
 	 * add a new recipe the easy way, duplicates will not be added.
 	 * Added recipes will be automatically added to the optionals and inputs.
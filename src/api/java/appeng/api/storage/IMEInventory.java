@@ -64,6 +64,29 @@ public interface IMEInventory<T extends IAEStack<T>>
 	 */
 	T extractItems( T request, Actionable mode, IActionSource src );
 
+	/**
+	 * Extract several different items from the ME Inventory in one operation.
+	 *
+	 * Inventories that do per call work, like permission checks, priority walks or change notifications, should
+	 * override this to do that work once for the whole batch. The requests are not modified.
+	 *
+	 * @param requests items to request ( with stack sizes. )
+	 * @param mode simulate, or perform action?
+	 *
+	 * @return a new list holding everything that was extracted, empty if nothing was
+	 */
+	default IItemList<T> extractItems( final IItemList<T> requests, final Actionable mode, final IActionSource src )
+	{
+		final IItemList<T> out = this.getChannel().createList();
+
+		for( final T request : requests )
+		{
+			out.add( this.extractItems( request.copy(), mode, src ) );
+		}
+
+		return out;
+	}
+
 	/**
 	 * request a full report of all available items, storage.
 	 *
@@ -124,6 +124,23 @@ public abstract class AEBaseTileBlock extends AEBaseBlock implements ITileEntity
         return this.tileEntityType;
     }
 
+    @Override
+    public void neighborChanged(final IBlockState state, final World world, final BlockPos pos, final Block blockIn, final BlockPos fromPos) {
+        this.invalidateNeighborCache(world, pos);
+    }
+
+    @Override
+    public void onNeighborChange(final IBlockAccess world, final BlockPos pos, final BlockPos neighbor) {
+        this.invalidateNeighborCache(world, pos);
+    }
+
+    protected void invalidateNeighborCache(final IBlockAccess w, final BlockPos pos) {
+        final AEBaseTile te = this.getTileEntity(w, pos);
+        if (te != null) {
+            te.invalidateNeighborCache();
+        }
+    }
+
     @Nullable
     public <T extends AEBaseTile> T getTileEntity(final IBlockAccess w, final int x, final int y, final int z) {
         return this.getTileEntity(w, new BlockPos(x, y, z));
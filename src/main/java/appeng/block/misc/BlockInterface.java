@@ -98,6 +98,7 @@ public class BlockInterface extends AEBaseTileBlock {
 
     @Override
     public void neighborChanged(IBlockState state, World worldIn, BlockPos pos, Block blockIn, BlockPos fromPos) {
+        this.invalidateNeighborCache(worldIn, pos);
         TileEntity tileEntity = this.getTileEntity(worldIn, pos);
         if (tileEntity != null) {
             ((TileInterface) tileEntity).updateRedstoneState();
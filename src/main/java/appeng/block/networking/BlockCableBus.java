@@ -130,6 +130,7 @@ public class BlockCableBus extends AEBaseTileBlock implements IAEFacade {
 
     @Override
     public void onNeighborChange(final IBlockAccess w, final BlockPos pos, final BlockPos neighbor) {
+        this.invalidateNeighborCache(w, pos);
         this.cb(w, pos).onNeighborChanged(w, pos, neighbor);
     }
 
@@ -389,6 +390,7 @@ public class BlockCableBus extends AEBaseTileBlock implements IAEFacade {
     @Override
     public void neighborChanged(IBlockState state, World world, BlockPos pos, Block blockIn, BlockPos fromPos) {
         if (Platform.isServer()) {
+            this.invalidateNeighborCache(world, pos);
             this.cb(world, pos).onNeighborChanged(world, pos, fromPos);
         }
     }
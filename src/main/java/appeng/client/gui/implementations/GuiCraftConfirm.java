@@ -194,7 +194,9 @@ public class GuiCraftConfirm extends AEBaseGui {
     public void drawFG(final int offsetX, final int offsetY, final int mouseX, final int mouseY) {
         final long BytesUsed = this.ccc.getUsedBytes();
         final String byteUsed = NumberFormat.getInstance().format(BytesUsed);
-        final String Add = BytesUsed > 0 ? (byteUsed + ' ' + GuiText.BytesUsed.getLocal()) : GuiText.CalculatingWait.getLocal();
+        final long steps = this.ccc.getCalculationSteps();
+        final String waiting = steps > 0 ? GuiText.CalculatingWait.getLocal() + " (" + NumberFormat.getInstance().format(steps) + ')' : GuiText.CalculatingWait.getLocal();
+        final String Add = BytesUsed > 0 ? (byteUsed + ' ' + GuiText.BytesUsed.getLocal()) : waiting;
         this.fontRenderer.drawString(GuiText.CraftingPlan.getLocal() + " - " + Add, 8, 7, 4210752);
 
         String dsp = null;
@@ -83,6 +83,7 @@ public class GuiCraftingCPU extends AEBaseGui implements ISortSource {
     private IItemList<IAEItemStack> storage = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList();
     private IItemList<IAEItemStack> active = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList();
     private IItemList<IAEItemStack> pending = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList();
+    private IItemList<IAEItemStack> starved = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList();
 
     private List<IAEItemStack> visual = new ArrayList<>();
     private GuiButton cancel;
@@ -107,6 +108,7 @@ public class GuiCraftingCPU extends AEBaseGui implements ISortSource {
         this.storage = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList();
         this.active = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList();
         this.pending = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList();
+        this.starved = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList();
         this.visual = new ArrayList<>();
     }
 
@@ -207,6 +209,7 @@ public class GuiCraftingCPU extends AEBaseGui implements ISortSource {
                 final IAEItemStack stored = this.storage.findPrecise(refStack);
                 final IAEItemStack activeStack = this.active.findPrecise(refStack);
                 final IAEItemStack pendingStack = this.pending.findPrecise(refStack);
+                final IAEItemStack starvedStack = this.starved.findPrecise(refStack);
 
                 int lines = 0;
 
@@ -223,9 +226,10 @@ public class GuiCraftingCPU extends AEBaseGui implements ISortSource {
                     lines++;
                     scheduled = true;
                 }
+                final boolean waitingForInputs = scheduled && starvedStack != null && starvedStack.getStackSize() > 0;
 
                 if (AEConfig.instance().isUseColoredCraftingStatus() && (active || scheduled)) {
-                    final int bgColor = (active ? AEColor.GREEN.blackVariant : AEColor.YELLOW.blackVariant) | BACKGROUND_ALPHA;
+                    final int bgColor = (active ? AEColor.GREEN.blackVariant : waitingForInputs ? AEColor.RED.blackVariant : AEColor.YELLOW.blackVariant) | BACKGROUND_ALPHA;
                     final int startX = (x * (1 + SECTION_LENGTH) + ITEMSTACK_LEFT_OFFSET) * 2;
                     final int startY = ((y * offY + ITEMSTACK_TOP_OFFSET) - 3) * 2;
                     drawRect(startX, startY, startX + (SECTION_LENGTH * 2), startY + (offY * 2) - 2, bgColor);
@@ -270,6 +274,10 @@ public class GuiCraftingCPU extends AEBaseGui implements ISortSource {
 
                     if (this.tooltip == z - viewStart) {
                         lineList.add(GuiText.Scheduled.getLocal() + ": " + pendingStack.getStackSize());
+
+                        if (waitingForInputs) {
+                            lineList.add(GuiText.WaitingForInputs.getLocal() + ": " + starvedStack.getStackSize());
+                        }
                     }
                 }
 
@@ -331,6 +339,12 @@ public class GuiCraftingCPU extends AEBaseGui implements ISortSource {
                     this.handleInput(this.pending, l);
                 }
                 break;
+
+            case 3:
+                for (final IAEItemStack l : list) {
+                    this.handleInput(this.starved, l);
+                }
+                return;
         }
 
         for (final IAEItemStack l : list) {
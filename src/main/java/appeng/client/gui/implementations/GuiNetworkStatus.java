@@ -201,8 +201,7 @@ public class GuiNetworkStatus extends AEBaseGui implements ISortSource {
     }
 
     public void postUpdate(final List<IAEItemStack> list) {
-        this.repo.clear();
-
+        // only changed machines are sent, with a count of zero for machines which are gone.
         for (final IAEItemStack is : list) {
             this.repo.postUpdate(is);
         }
@@ -299,6 +299,16 @@ public abstract class AEBaseContainer extends Container {
         super.detectAndSendChanges();
     }
 
+    @Override
+    public void onContainerClosed(final EntityPlayer player) {
+        super.onContainerClosed(player);
+
+        // queued updates belong to this screen, they have to arrive before the next one opens.
+        if (player instanceof EntityPlayerMP) {
+            NetworkHandler.instance().sendQueued((EntityPlayerMP) player);
+        }
+    }
+
     @Override
     public ItemStack transferStackInSlot(final EntityPlayer p, final int idx) {
         if (Platform.isClient()) {
@@ -70,13 +70,13 @@ public class SyncData {
     private void send(final IContainerListener o, final Object val) throws IOException {
         if (val instanceof String) {
             if (o instanceof EntityPlayerMP) {
-                NetworkHandler.instance().sendTo(new PacketValueConfig("SyncDat." + this.channel, (String) val), (EntityPlayerMP) o);
+                NetworkHandler.instance().queueTo(new PacketValueConfig("SyncDat." + this.channel, (String) val), (EntityPlayerMP) o, 1);
             }
         } else if (this.field.getType().isEnum()) {
             o.sendWindowProperty(this.source, this.channel, ((Enum) val).ordinal());
         } else if (val instanceof Long || val.getClass() == long.class) {
             if (o instanceof EntityPlayerMP) {
-                NetworkHandler.instance().sendTo(new PacketProgressBar(this.channel, (Long) val), (EntityPlayerMP) o);
+                NetworkHandler.instance().queueTo(new PacketProgressBar(this.channel, (Long) val), (EntityPlayerMP) o, 1);
             }
         } else if (val instanceof Boolean || val.getClass() == boolean.class) {
             o.sendWindowProperty(this.source, this.channel, ((Boolean) val) ? 1 : 0);
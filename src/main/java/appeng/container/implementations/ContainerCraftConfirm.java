@@ -44,6 +44,8 @@ import appeng.core.AELog;
 import appeng.core.sync.GuiBridge;
 import appeng.core.sync.network.NetworkHandler;
 import appeng.core.sync.packets.PacketMEInventoryUpdate;
+import appeng.crafting.CraftingJob;
+import appeng.crafting.CraftingJobFuture;
 import appeng.helpers.WirelessTerminalGuiObject;
 import appeng.me.helpers.PlayerSource;
 import appeng.parts.reporting.PartCraftingTerminal;
@@ -90,6 +92,8 @@ public class ContainerCraftConfirm extends AEBaseContainer {
     public boolean noCPU = true;
     @GuiSync(7)
     public String myName = "";
+    @GuiSync(8)
+    public long calculationSteps;
     private GuiCraftConfirm guiCraftConfirm;
 
     public ContainerCraftConfirm(final InventoryPlayer ip, final ITerminalHost te) {
@@ -176,6 +180,11 @@ public class ContainerCraftConfirm extends AEBaseContainer {
 
         this.setNoCPU(this.cpus.isEmpty());
 
+        if (this.getJob() instanceof CraftingJobFuture future && !future.isDone()) {
+            this.setCalculationSteps(future.getJob().getSteps());
+            this.setSimulation(true);
+        }
+
         super.detectAndSendChanges();
 
         if (this.getJob() != null && this.getJob().isDone()) {
@@ -202,6 +211,11 @@ public class ContainerCraftConfirm extends AEBaseContainer {
 
                     this.setUsedBytes(this.result.getByteTotal());
 
+                    // the split between available and missing is taken from the snapshot the job was calculated with
+                    final CraftingJob snapshot = this.result instanceof CraftingJob ? (CraftingJob) this.result : null;
+                    final IStorageGrid sg = grid.getCache(IStorageGrid.class);
+                    final IMEMonitor<IAEItemStack> items = sg.getInventory(AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class));
+
                     for (final IAEItemStack out : plan) {
 
                         IAEItemStack o = out.copy();
@@ -212,13 +226,10 @@ public class ContainerCraftConfirm extends AEBaseContainer {
                         p.reset();
                         p.setStackSize(out.getCountRequestable());
 
-                        final IStorageGrid sg = grid.getCache(IStorageGrid.class);
-                        final IMEMonitor<IAEItemStack> items = sg.getInventory(AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class));
-
                         IAEItemStack m = null;
                         if (c != null && this.result.isSimulation()) {
                             m = o.copy();
-                            o = items.extractItems(o, Actionable.SIMULATE, this.getActionSource());
+                            o = snapshot != null ? snapshot.getAvailable(o) : items.extractItems(o, Actionable.SIMULATE, this.getActionSource());
 
                             if (o == null) {
                                 o = m.copy();
@@ -243,10 +254,10 @@ public class ContainerCraftConfirm extends AEBaseContainer {
 
                     for (final Object g : this.listeners) {
                         if (g instanceof EntityPlayer) {
-                            NetworkHandler.instance().sendTo(a, (EntityPlayerMP) g);
-                            NetworkHandler.instance().sendTo(b, (EntityPlayerMP) g);
+                            NetworkHandler.instance().queueTo(a, (EntityPlayerMP) g);
+                            NetworkHandler.instance().queueTo(b, (EntityPlayerMP) g);
                             if (c != null) {
-                                NetworkHandler.instance().sendTo(c, (EntityPlayerMP) g);
+                                NetworkHandler.instance().queueTo(c, (EntityPlayerMP) g);
                             }
                         }
                     }
@@ -376,6 +387,14 @@ public class ContainerCraftConfirm extends AEBaseContainer {
         return this.bytesUsed;
     }
 
+    public long getCalculationSteps() {
+        return this.calculationSteps;
+    }
+
+    private void setCalculationSteps(final long calculationSteps) {
+        this.calculationSteps = calculationSteps;
+    }
+
     private void setUsedBytes(final long bytesUsed) {
         this.bytesUsed = bytesUsed;
     }
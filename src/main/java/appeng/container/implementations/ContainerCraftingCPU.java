@@ -54,10 +54,19 @@ import java.util.List;
 
 public class ContainerCraftingCPU extends AEBaseContainer implements IMEMonitorHandlerReceiver<IAEItemStack>, ICustomNameObject {
 
+    /**
+     * ticks between two updates of the item lists, changes in between are merged.
+     */
+    private static final int UPDATE_INTERVAL = 5;
+
+    /**
+     * the items which changed since the last update, only their current amounts are sent.
+     */
     private final IItemList<IAEItemStack> list = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList();
     private IGrid network;
     private CraftingCPUCluster monitor = null;
     private String cpuName = null;
+    private int ticksSinceUpdate = UPDATE_INTERVAL;
 
     @GuiSync(0)
     public long eta = -1;
@@ -92,7 +101,7 @@ public class ContainerCraftingCPU extends AEBaseContainer implements IMEMonitorH
         for (final Object g : this.listeners) {
             if (g instanceof EntityPlayer) {
                 try {
-                    NetworkHandler.instance().sendTo(new PacketValueConfig("CraftingStatus", "Clear"), (EntityPlayerMP) g);
+                    NetworkHandler.instance().queueTo(new PacketValueConfig("CraftingStatus", "Clear"), (EntityPlayerMP) g);
                 } catch (final IOException e) {
                     AELog.debug(e);
                 }
@@ -106,6 +115,7 @@ public class ContainerCraftingCPU extends AEBaseContainer implements IMEMonitorH
             this.getMonitor().getListOfItem(this.list, CraftingItemList.ALL);
             this.getMonitor().addListener(this, null);
             this.setEstimatedTime(0);
+            this.ticksSinceUpdate = UPDATE_INTERVAL;
         } else {
             this.setMonitor(null);
             this.cpuName = "";
@@ -147,16 +157,20 @@ public class ContainerCraftingCPU extends AEBaseContainer implements IMEMonitorH
                 final long eta = (long) (elapsedTime / Math.max(1d, (startItems - remainingItems)) * remainingItems);
                 this.setEstimatedTime(eta);
             }
-            if (!this.list.isEmpty()) {
+            if (++this.ticksSinceUpdate >= UPDATE_INTERVAL && !this.list.isEmpty()) {
+                this.ticksSinceUpdate = 0;
+
                 try {
                     final PacketMEInventoryUpdate a = new PacketMEInventoryUpdate((byte) 0);
                     final PacketMEInventoryUpdate b = new PacketMEInventoryUpdate((byte) 1);
                     final PacketMEInventoryUpdate c = new PacketMEInventoryUpdate((byte) 2);
+                    final PacketMEInventoryUpdate d = new PacketMEInventoryUpdate((byte) 3);
 
                     for (final IAEItemStack out : this.list) {
                         a.appendItem(this.getMonitor().getItemStack(out, CraftingItemList.STORAGE));
                         b.appendItem(this.getMonitor().getItemStack(out, CraftingItemList.ACTIVE));
                         c.appendItem(this.getMonitor().getItemStack(out, CraftingItemList.PENDING));
+                        d.appendItem(this.getMonitor().getStarvedItemStack(out));
                     }
 
                     this.list.resetStatus();
@@ -164,15 +178,19 @@ public class ContainerCraftingCPU extends AEBaseContainer implements IMEMonitorH
                     for (final Object g : this.listeners) {
                         if (g instanceof EntityPlayer) {
                             if (!a.isEmpty()) {
-                                NetworkHandler.instance().sendTo(a, (EntityPlayerMP) g);
+                                NetworkHandler.instance().queueTo(a, (EntityPlayerMP) g);
                             }
 
                             if (!b.isEmpty()) {
-                                NetworkHandler.instance().sendTo(b, (EntityPlayerMP) g);
+                                NetworkHandler.instance().queueTo(b, (EntityPlayerMP) g);
                             }
 
                             if (!c.isEmpty()) {
-                                NetworkHandler.instance().sendTo(c, (EntityPlayerMP) g);
+                                NetworkHandler.instance().queueTo(c, (EntityPlayerMP) g);
+                            }
+
+                            if (!d.isEmpty()) {
+                                NetworkHandler.instance().queueTo(d, (EntityPlayerMP) g);
                             }
                         }
                     }
@@ -165,7 +165,7 @@ public final class ContainerFluidInterfaceConfigurationTerminal extends AEBaseCo
 
         if (!this.data.isEmpty()) {
             try {
-                NetworkHandler.instance().sendTo(new PacketCompressedNBT(this.data), (EntityPlayerMP) this.getPlayerInv().player);
+                NetworkHandler.instance().queueTo(new PacketCompressedNBT(this.data), (EntityPlayerMP) this.getPlayerInv().player);
             } catch (final IOException e) {
                 // :P
             }
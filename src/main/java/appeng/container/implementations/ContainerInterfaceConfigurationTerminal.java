@@ -155,7 +155,7 @@ public final class ContainerInterfaceConfigurationTerminal extends AEBaseContain
 
         if (!this.data.isEmpty()) {
             try {
-                NetworkHandler.instance().sendTo(new PacketCompressedNBT(this.data), (EntityPlayerMP) this.getPlayerInv().player);
+                NetworkHandler.instance().queueTo(new PacketCompressedNBT(this.data), (EntityPlayerMP) this.getPlayerInv().player);
             } catch (final IOException e) {
                 // :P
             }
@@ -229,7 +229,7 @@ public class ContainerMEMonitorable extends AEBaseContainer implements IConfigMa
                     for (final IContainerListener crafter : this.listeners) {
                         if (crafter instanceof EntityPlayerMP) {
                             try {
-                                NetworkHandler.instance().sendTo(new PacketValueConfig(set.name(), sideLocal.name()), (EntityPlayerMP) crafter);
+                                NetworkHandler.instance().queueTo(new PacketValueConfig(set.name(), sideLocal.name()), (EntityPlayerMP) crafter);
                             } catch (final IOException e) {
                                 AELog.debug(e);
                             }
@@ -259,7 +259,7 @@ public class ContainerMEMonitorable extends AEBaseContainer implements IConfigMa
 
                         for (final Object c : this.listeners) {
                             if (c instanceof EntityPlayer) {
-                                NetworkHandler.instance().sendTo(piu, (EntityPlayerMP) c);
+                                NetworkHandler.instance().queueTo(piu, (EntityPlayerMP) c);
                             }
                         }
                     }
@@ -329,14 +329,14 @@ public class ContainerMEMonitorable extends AEBaseContainer implements IConfigMa
                     try {
                         piu.appendItem(send);
                     } catch (final BufferOverflowException boe) {
-                        NetworkHandler.instance().sendTo(piu, (EntityPlayerMP) c);
+                        NetworkHandler.instance().queueTo(piu, (EntityPlayerMP) c);
 
                         piu = new PacketMEInventoryUpdate();
                         piu.appendItem(send);
                     }
                 }
 
-                NetworkHandler.instance().sendTo(piu, (EntityPlayerMP) c);
+                NetworkHandler.instance().queueTo(piu, (EntityPlayerMP) c);
             } catch (final IOException e) {
                 AELog.debug(e);
             }
@@ -22,7 +22,6 @@ package appeng.container.implementations;
 import appeng.api.AEApi;
 import appeng.api.implementations.guiobjects.INetworkTool;
 import appeng.api.networking.IGrid;
-import appeng.api.networking.IGridBlock;
 import appeng.api.networking.IGridHost;
 import appeng.api.networking.IGridNode;
 import appeng.api.networking.energy.IEnergyGrid;
@@ -35,12 +34,11 @@ import appeng.container.AEBaseContainer;
 import appeng.container.guisync.GuiSync;
 import appeng.core.sync.network.NetworkHandler;
 import appeng.core.sync.packets.PacketMEInventoryUpdate;
+import appeng.me.Grid;
 import appeng.util.Platform;
-import appeng.util.item.AEItemStack;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.entity.player.InventoryPlayer;
-import net.minecraft.item.ItemStack;
 
 import java.io.IOException;
 import java.util.List;
@@ -58,6 +56,12 @@ public class ContainerNetworkStatus extends AEBaseContainer {
     public long maxPower;
     private IGrid network;
     private int delay = 40;
+
+    /**
+     * the machines as last sent to the client, only changes to it are sent.
+     */
+    private IItemList<IAEItemStack> sent = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList();
+    private int censusVersion = -1;
     private GuiNetworkStatus guiNetworkStatus;
 
     public ContainerNetworkStatus(final InventoryPlayer ip, final INetworkTool te) {
@@ -99,34 +103,43 @@ public class ContainerNetworkStatus extends AEBaseContainer {
                 this.setMaxPower((long) (100.0 * eg.getMaxStoredPower()));
             }
 
-            try {
-                final PacketMEInventoryUpdate piu = new PacketMEInventoryUpdate();
-
-                for (final Class<? extends IGridHost> machineClass : this.network.getMachinesClasses()) {
-                    final IItemList<IAEItemStack> list = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList();
-                    for (final IGridNode machine : this.network.getMachines(machineClass)) {
-                        final IGridBlock blk = machine.getGridBlock();
-                        final ItemStack is = blk.getMachineRepresentation();
-                        if (!is.isEmpty()) {
-                            final IAEItemStack ais = AEItemStack.fromItemStack(is);
-                            ais.setStackSize(1);
-                            ais.setCountRequestable((long) (blk.getIdlePowerUsage() * 100.0));
-                            list.add(ais);
+            final Grid grid = (Grid) this.network;
+            if (grid.getCensusVersion() != this.censusVersion) {
+                this.censusVersion = grid.getCensusVersion();
+
+                final IItemList<IAEItemStack> machines = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList();
+                grid.populateCensus(machines);
+
+                try {
+                    final PacketMEInventoryUpdate piu = new PacketMEInventoryUpdate();
+
+                    for (final IAEItemStack ais : machines) {
+                        final IAEItemStack old = this.sent.findPrecise(ais);
+                        if (old == null || old.getStackSize() != ais.getStackSize() || old.getCountRequestable() != ais.getCountRequestable()) {
+                            piu.appendItem(ais);
                         }
                     }
 
-                    for (final IAEItemStack ais : list) {
-                        piu.appendItem(ais);
+                    for (final IAEItemStack old : this.sent) {
+                        if (machines.findPrecise(old) == null) {
+                            final IAEItemStack gone = old.copy();
+                            gone.reset();
+                            piu.appendItem(gone);
+                        }
                     }
-                }
 
-                for (final Object c : this.listeners) {
-                    if (c instanceof EntityPlayer) {
-                        NetworkHandler.instance().sendTo(piu, (EntityPlayerMP) c);
+                    this.sent = machines;
+
+                    if (!piu.isEmpty()) {
+                        for (final Object c : this.listeners) {
+                            if (c instanceof EntityPlayer) {
+                                NetworkHandler.instance().queueTo(piu, (EntityPlayerMP) c);
+                            }
+                        }
                     }
+                } catch (final IOException e) {
+                    // :P
                 }
-            } catch (final IOException e) {
-                // :P
             }
         }
         super.detectAndSendChanges();
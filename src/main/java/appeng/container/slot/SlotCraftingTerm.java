@@ -21,6 +21,7 @@ package appeng.container.slot;
 
 import appeng.api.AEApi;
 import appeng.api.config.Actionable;
+import appeng.api.config.PowerMultiplier;
 import appeng.api.networking.energy.IEnergySource;
 import appeng.api.networking.security.IActionSource;
 import appeng.api.storage.IMEMonitor;
@@ -40,6 +41,7 @@ import appeng.util.inv.AdaptorItemHandler;
 import appeng.util.inv.WrapperCursorItemHandler;
 import appeng.util.inv.WrapperInvItemHandler;
 import appeng.util.item.AEItemStack;
+import appeng.util.prioritylist.IPartitionList;
 import com.blamejared.recipestages.recipes.RecipeStage;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.inventory.InventoryCrafting;
@@ -50,6 +52,8 @@ import net.minecraft.item.crafting.IRecipe;
 import net.minecraft.util.NonNullList;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
+import net.minecraftforge.common.ForgeHooks;
+import net.minecraftforge.fml.common.FMLCommonHandler;
 import net.minecraftforge.items.IItemHandler;
 
 import java.util.ArrayList;
@@ -135,7 +139,12 @@ public class SlotCraftingTerm extends AppEngCraftingSlot {
             return;
         }
 
-        for (int x = 0; x < maxTimesToCraft; x++) {
+        int crafted = 0;
+        if (maxTimesToCraft > 1) {
+            crafted = this.craftBulk(who, ia, rs, inv, maxTimesToCraft);
+        }
+
+        for (int x = crafted; x < maxTimesToCraft; x++) {
             if (ia.simulateAdd(rs).isEmpty()) {
                 final IItemList<IAEItemStack> all = inv.getStorageList();
                 final ItemStack extra = ia.addItems(this.craftItem(who, rs, inv, all));
@@ -260,6 +269,143 @@ public class SlotCraftingTerm extends AppEngCraftingSlot {
         return ItemStack.EMPTY;
     }
 
+    /**
+     * Crafts a plain recipe several times in one go: the ingredients are pulled from the network in a single batch and
+     * the result is handed over as one stack. Recipes leaving container items behind, ingredients that would need a
+     * substitute and anything else unusual are left to {@link #craftItem}.
+     *
+     * @return how many times the recipe was crafted
+     */
+    private int craftBulk(final EntityPlayer p, final InventoryAdaptor ia, final ItemStack request, final IMEMonitor<IAEItemStack> inv, final int maxTimesToCraft) {
+        if (inv == null) {
+            return 0;
+        }
+
+        final InventoryCrafting ic = new InventoryCrafting(new ContainerNull(), 3, 3);
+        for (int x = 0; x < 9; x++) {
+            ic.setInventorySlotContents(x, this.getPattern().getStackInSlot(x));
+        }
+
+        final IRecipe r = this.findRecipe(ic, p.world, p);
+        if (r == null) {
+            return 0;
+        }
+
+        final ItemStack result = r.getCraftingResult(ic);
+        if (result.isEmpty() || !ItemStack.areItemStacksEqual(result, request)) {
+            return 0;
+        }
+
+        ForgeHooks.setCraftingPlayer(p);
+        final NonNullList<ItemStack> remaining = this.getRemainingItems(ic, p.world);
+        ForgeHooks.setCraftingPlayer(null);
+
+        for (final ItemStack is : remaining) {
+            if (!is.isEmpty()) {
+                return 0;
+            }
+        }
+
+        final int perCraft = result.getCount();
+        final ItemStack output = result.copy();
+        output.setCount(perCraft * maxTimesToCraft);
+
+        final int crafts = maxTimesToCraft - (ia.simulateAdd(output).getCount() + perCraft - 1) / perCraft;
+        if (crafts < 2) {
+            return 0;
+        }
+
+        // the grid is used up first, every slot that runs empty gets refilled from the network like a single craft would.
+        final IPartitionList<IAEItemStack> filter = ItemViewCell.createFilter(this.container.getViewCells());
+        final IItemList<IAEItemStack> needed = inv.getChannel().createList();
+        final int[] fromNetwork = new int[this.getPattern().getSlots()];
+
+        for (int x = 0; x < this.getPattern().getSlots(); x++) {
+            final ItemStack is = this.getPattern().getStackInSlot(x);
+            if (is.isEmpty()) {
+                continue;
+            }
+
+            fromNetwork[x] = Math.max(0, crafts - (is.getCount() - 1));
+            if (fromNetwork[x] > 0) {
+                final IAEItemStack ae = AEItemStack.fromItemStack(is).setStackSize(fromNetwork[x]);
+                if (filter != null && !filter.isListed(ae)) {
+                    return 0;
+                }
+                needed.add(ae);
+            }
+        }
+
+        long total = 0;
+        for (final IAEItemStack ae : needed) {
+            total += ae.getStackSize();
+        }
+
+        if (this.energySrc.extractAEPower(total, Actionable.SIMULATE, PowerMultiplier.CONFIG) < total - 0.1) {
+            return 0;
+        }
+
+        final IItemList<IAEItemStack> extracted = inv.extractItems(needed, Actionable.MODULATE, this.mySrc);
+
+        for (final IAEItemStack ae : needed) {
+            final IAEItemStack got = extracted.findPrecise(ae);
+            if (got == null || got.getStackSize() < ae.getStackSize()) {
+                this.returnToNetwork(p, inv, extracted);
+                return 0;
+            }
+        }
+
+        this.energySrc.extractAEPower(total, Actionable.MODULATE, PowerMultiplier.CONFIG);
+
+        // one event per craft, listeners should not notice the difference.
+        for (int c = 0; c < crafts; c++) {
+            final ItemStack crafted = result.copy();
+            this.onCrafting(crafted);
+            crafted.getItem().onCreated(crafted, p.world, p);
+            FMLCommonHandler.instance().firePlayerCraftingEvent(p, crafted, ic);
+        }
+
+        for (int x = 0; x < this.getPattern().getSlots(); x++) {
+            final ItemStack is = this.getPattern().getStackInSlot(x);
+            if (is.isEmpty()) {
+                continue;
+            }
+
+            final ItemStack left = is.copy();
+            left.setCount(is.getCount() - crafts + fromNetwork[x]);
+            ItemHandlerUtil.setStackInSlot(this.craftInv, x, left.isEmpty() ? ItemStack.EMPTY : left);
+        }
+
+        output.setCount(perCraft * crafts);
+        final ItemStack extra = ia.addItems(output);
+        if (!extra.isEmpty()) {
+            final List<ItemStack> drops = new ArrayList<>();
+            drops.add(extra);
+            Platform.spawnDrops(p.world, new BlockPos((int) p.posX, (int) p.posY, (int) p.posZ), drops);
+        }
+
+        p.openContainer.onCraftMatrixChanged(new WrapperInvItemHandler(this.craftInv));
+
+        return crafts;
+    }
+
+    private void returnToNetwork(final EntityPlayer p, final IMEMonitor<IAEItemStack> inv, final IItemList<IAEItemStack> items) {
+        final List<ItemStack> drops = new ArrayList<>();
+
+        for (final IAEItemStack ae : items) {
+            if (ae.getStackSize() > 0) {
+                final IAEItemStack fail = inv.injectItems(ae.copy(), Actionable.MODULATE, this.mySrc);
+                if (fail != null) {
+                    drops.add(fail.createItemStack());
+                }
+            }
+        }
+
+        if (drops.size() > 0) {
+            Platform.spawnDrops(p.world, new BlockPos((int) p.posX, (int) p.posY, (int) p.posZ), drops);
+        }
+    }
+
     private boolean preCraft(final EntityPlayer p, final IMEMonitor<IAEItemStack> inv, final ItemStack[] set, final ItemStack result) {
         return true;
     }
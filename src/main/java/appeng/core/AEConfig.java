@@ -76,6 +76,8 @@ public final class AEConfig extends Configuration implements IConfigurableObject
     // Misc
     private boolean removeCrashingItemsOnLoad = false;
     private int formationPlaneEntityLimit = 128;
+    private int metricsDumpInterval = 0;
+    private String metricsDumpFormat = "prometheus";
     private boolean enableEffects = true;
     private boolean useLargeFonts = false;
     private boolean useColoredCraftingStatus;
@@ -182,6 +184,10 @@ public final class AEConfig extends Configuration implements IConfigurableObject
 
         this.formationPlaneEntityLimit = this.get("automation", "formationPlaneEntityLimit", this.formationPlaneEntityLimit).getInt(this.formationPlaneEntityLimit);
 
+        this.addCustomCategoryComment("metrics", "Periodically writes the metrics shown by /ae2 Stats into the AE2 directory of the world.");
+        this.metricsDumpInterval = Math.max(0, this.get("metrics", "dumpInterval", this.metricsDumpInterval, "Seconds between two dumps, 0 disables them.").getInt(this.metricsDumpInterval));
+        this.metricsDumpFormat = this.get("metrics", "dumpFormat", this.metricsDumpFormat, "prometheus or json").getString();
+
         this.wirelessTerminalBattery = this.get("battery", "wirelessTerminal", this.wirelessTerminalBattery).getInt(this.wirelessTerminalBattery);
         this.chargedStaffBattery = this.get("battery", "chargedStaff", this.chargedStaffBattery).getInt(this.chargedStaffBattery);
         this.entropyManipulatorBattery = this.get("battery", "entropyManipulator", this.entropyManipulatorBattery).getInt(this.entropyManipulatorBattery);
@@ -502,6 +508,14 @@ public final class AEConfig extends Configuration implements IConfigurableObject
         return this.formationPlaneEntityLimit;
     }
 
+    public int getMetricsDumpInterval() {
+        return this.metricsDumpInterval;
+    }
+
+    public String getMetricsDumpFormat() {
+        return this.metricsDumpFormat;
+    }
+
     public boolean isEnableEffects() {
         return this.enableEffects;
     }
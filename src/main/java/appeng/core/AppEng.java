@@ -32,6 +32,7 @@ import appeng.helpers.NonBlockingItems;
 import appeng.hooks.TickHandler;
 import appeng.integration.IntegrationRegistry;
 import appeng.integration.IntegrationType;
+import appeng.me.storage.StorageTraceRecorder;
 import appeng.server.AECommand;
 import appeng.services.VersionChecker;
 import appeng.services.export.ExportConfig;
@@ -235,6 +236,7 @@ public final class AppEng {
 
     @EventHandler
     private void serverStopping(final FMLServerStoppingEvent event) {
+        StorageTraceRecorder.INSTANCE.stop();
         WorldData.instance().onServerStopping();
     }
 
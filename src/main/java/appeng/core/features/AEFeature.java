@@ -150,6 +150,8 @@ public enum AEFeature {
     ACHIEVEMENTS("Achievements", Constants.CATEGORY_MISC),
     UPDATE_LOGGING("UpdateLogging", Constants.CATEGORY_MISC, false),
     PACKET_LOGGING("PacketLogging", Constants.CATEGORY_MISC, false),
+    PACKET_BATCHING("PacketBatching", Constants.CATEGORY_MISC, "Send the screen updates of a player as one packet per tick."),
+    PLANE_ARRAYS("PlaneArrays", Constants.CATEGORY_MISC, "Let the annihilation planes of a network break their blocks together."),
     CRAFTING_LOG("CraftingLog", Constants.CATEGORY_MISC, false),
     LIGHT_DETECTOR("LightDetector", Constants.CATEGORY_MISC),
     DEBUG_LOGGING("DebugLogging", Constants.CATEGORY_MISC, false),
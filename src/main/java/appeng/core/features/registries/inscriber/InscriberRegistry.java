@@ -24,6 +24,9 @@ import appeng.api.features.IInscriberRecipeBuilder;
 import appeng.api.features.IInscriberRegistry;
 import appeng.api.features.InscriberProcessType;
 import com.google.common.base.Preconditions;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 
 import javax.annotation.Nonnull;
@@ -39,6 +42,10 @@ public final class InscriberRegistry implements IInscriberRegistry {
     private final Set<IInscriberRecipe> recipes;
     private final Set<ItemStack> optionals;
     private final Set<ItemStack> inputs;
+    /**
+     * recipes by the items of their middle inputs, ore dictionary inputs are already expanded into one stack per item.
+     */
+    private final Map<Item, List<IInscriberRecipe>> recipesByInput = new Reference2ObjectOpenHashMap<>();
 
     public InscriberRegistry() {
         this.inputs = new HashSet<>();
@@ -64,6 +71,13 @@ public final class InscriberRegistry implements IInscriberRegistry {
         return this.inputs;
     }
 
+    @Nonnull
+    @Override
+    public Collection<IInscriberRecipe> getRecipesForInput(@Nonnull final ItemStack input) {
+        final List<IInscriberRecipe> candidates = this.recipesByInput.get(input.getItem());
+        return candidates != null ? Collections.unmodifiableList(candidates) : Collections.emptyList();
+    }
+
     @Nonnull
     @Override
     public IInscriberRecipeBuilder builder() {
@@ -78,6 +92,7 @@ public final class InscriberRegistry implements IInscriberRegistry {
             this.optionals.addAll(recipe.getTopInputs());
             this.optionals.addAll(recipe.getBottomInputs());
             this.inputs.addAll(recipe.getInputs());
+            this.indexRecipe(recipe);
 
             return true;
         }
@@ -99,9 +114,24 @@ public final class InscriberRegistry implements IInscriberRegistry {
             }
         }
 
+        if (changed) {
+            this.recipesByInput.clear();
+            this.recipes.forEach(this::indexRecipe);
+        }
+
         return changed;
     }
 
+    private void indexRecipe(final IInscriberRecipe recipe) {
+        final Set<Item> items = new ReferenceOpenHashSet<>();
+
+        for (final ItemStack input : recipe.getInputs()) {
+            if (!input.isEmpty() && items.add(input.getItem())) {
+                this.recipesByInput.computeIfAbsent(input.getItem(), i -> new ArrayList<>(2)).add(recipe);
+            }
+        }
+    }
+
     /**
      * Internal {@link IInscriberRecipeBuilder} implementation.
      * Needs to be adapted to represent a correct {@link IInscriberRecipe}
@@ -157,6 +157,7 @@ public enum GuiText {
     Stored,
     Crafting,
     Scheduled,
+    WaitingForInputs,
     CraftingStatus,
     Cancel,
     ETA,
@@ -92,6 +92,10 @@ public class AppEngPacketHandlerBase {
 
         PACKET_CABLE_BUS_LANDING_PARTICLE(PacketCableBusLandingParticle.class),
 
+        PACKET_TILE_UPDATES(PacketTileUpdates.class),
+
+        PACKET_BATCH(PacketBatch.class),
+
         ;
 
 
@@ -19,7 +19,11 @@
 package appeng.core.sync.network;
 
 
+import appeng.core.AEConfig;
+import appeng.core.features.AEFeature;
 import appeng.core.sync.AppEngPacket;
+import appeng.core.sync.packets.PacketBatch;
+import io.netty.buffer.ByteBuf;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.network.NetHandlerPlayServer;
 import net.minecraft.network.ThreadQuickExitException;
@@ -29,6 +33,13 @@ import net.minecraftforge.fml.common.network.FMLEventChannel;
 import net.minecraftforge.fml.common.network.FMLNetworkEvent.ClientCustomPacketEvent;
 import net.minecraftforge.fml.common.network.FMLNetworkEvent.ServerCustomPacketEvent;
 import net.minecraftforge.fml.common.network.NetworkRegistry;
+import net.minecraftforge.fml.common.network.internal.FMLProxyPacket;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 
 public class NetworkHandler {
@@ -40,6 +51,11 @@ public class NetworkHandler {
     private final IPacketHandler clientHandler;
     private final IPacketHandler serveHandler;
 
+    /**
+     * packets waiting for the end of the server tick, by player.
+     */
+    private final Map<EntityPlayerMP, List<QueuedPacket>> queued = new HashMap<>();
+
     public NetworkHandler(final String channelName) {
         FMLCommonHandler.instance().bus().register(this);
         this.ec = NetworkRegistry.INSTANCE.newEventDrivenChannel(this.myChannelName = channelName);
@@ -108,6 +124,98 @@ public class NetworkHandler {
         this.ec.sendTo(message.getProxy(), player);
     }
 
+    public void queueTo(final AppEngPacket message, final EntityPlayerMP player) {
+        this.queueTo(message, player, 0);
+    }
+
+    /**
+     * Sends the packet at the end of the server tick, together with the other packets queued for the player. Packets
+     * with a higher priority go first, equal ones keep their order. Use {@link #sendTo} for anything which has to
+     * arrive right away.
+     */
+    public void queueTo(final AppEngPacket message, final EntityPlayerMP player, final int priority) {
+        if (!AEConfig.instance().isFeatureEnabled(AEFeature.PACKET_BATCHING)) {
+            this.sendTo(message, player);
+            return;
+        }
+
+        final FMLProxyPacket proxy = message.getProxy();
+        if (proxy == null) {
+            return;
+        }
+
+        if (proxy.payload().readableBytes() > PacketBatch.MAX_SIZE) {
+            // too big for a batch, send what is queued first so the player still gets the packets in order.
+            this.sendQueued(player);
+            this.ec.sendTo(proxy, player);
+            return;
+        }
+
+        this.queued.computeIfAbsent(player, p -> new ArrayList<>()).add(new QueuedPacket(proxy, priority));
+    }
+
+    /**
+     * Sends everything queued, called at the end of each server tick.
+     */
+    public void sendQueued() {
+        if (this.queued.isEmpty()) {
+            return;
+        }
+
+        for (final Map.Entry<EntityPlayerMP, List<QueuedPacket>> e : this.queued.entrySet()) {
+            this.sendQueued(e.getKey(), e.getValue());
+        }
+
+        this.queued.clear();
+    }
+
+    /**
+     * Sends what is queued for one player right away, for example before another screen opens.
+     */
+    public void sendQueued(final EntityPlayerMP player) {
+        final List<QueuedPacket> packets = this.queued.remove(player);
+        if (packets != null) {
+            this.sendQueued(player, packets);
+        }
+    }
+
+    private void sendQueued(final EntityPlayerMP player, final List<QueuedPacket> packets) {
+        if (player.hasDisconnected()) {
+            return;
+        }
+
+        if (packets.size() == 1) {
+            this.ec.sendTo(packets.get(0).proxy, player);
+            return;
+        }
+
+        packets.sort(Comparator.comparingInt((QueuedPacket p) -> p.priority).reversed());
+
+        final List<ByteBuf> batch = new ArrayList<>();
+        int size = 0;
+
+        for (final QueuedPacket p : packets) {
+            final ByteBuf payload = p.proxy.payload();
+
+            if (size + payload.readableBytes() > PacketBatch.MAX_SIZE) {
+                this.sendBatch(player, batch);
+                batch.clear();
+                size = 0;
+            }
+
+            batch.add(payload);
+            size += 4 + payload.readableBytes();
+        }
+
+        this.sendBatch(player, batch);
+    }
+
+    private void sendBatch(final EntityPlayerMP player, final List<ByteBuf> payloads) {
+        if (!payloads.isEmpty()) {
+            this.ec.sendTo(new PacketBatch(payloads).getProxy(), player);
+        }
+    }
+
     public void sendToAllAround(final AppEngPacket message, final NetworkRegistry.TargetPoint point) {
         this.ec.sendToAllAround(message.getProxy(), point);
     }
@@ -123,4 +231,15 @@ public class NetworkHandler {
     public void sendToServer(final AppEngPacket message) {
         this.ec.sendToServer(message.getProxy());
     }
+
+    private static class QueuedPacket {
+
+        private final FMLProxyPacket proxy;
+        private final int priority;
+
+        private QueuedPacket(final FMLProxyPacket proxy, final int priority) {
+            this.proxy = proxy;
+            this.priority = priority;
+        }
+    }
 }
@@ -0,0 +1,94 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.core.sync.packets;
+
+
+import appeng.core.AELog;
+import appeng.core.sync.AppEngPacket;
+import appeng.core.sync.AppEngPacketHandlerBase.PacketTypes;
+import appeng.core.sync.network.INetworkInfo;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Several packets for the same player, sent as one, see {@link appeng.core.sync.network.NetworkHandler#queueTo}.
+ */
+public class PacketBatch extends AppEngPacket {
+
+    /**
+     * Size after which queued packets go into another batch.
+     */
+    public static final int MAX_SIZE = 256 * 1024;
+
+    private final List<AppEngPacket> packets;
+
+    // automatic.
+    public PacketBatch(final ByteBuf stream) {
+        final int count = stream.readInt();
+        this.packets = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            // a copy, some packets read the backing array directly
+            final ByteBuf payload = stream.readBytes(stream.readInt());
+
+            try {
+                this.packets.add(PacketTypes.getPacket(payload.readInt()).parsePacket(payload));
+            } catch (final ReflectiveOperationException | IllegalArgumentException e) {
+                AELog.debug(e);
+            }
+        }
+    }
+
+    // api
+    public PacketBatch(final List<ByteBuf> payloads) {
+        this.packets = null;
+
+        int size = 8;
+        for (final ByteBuf payload : payloads) {
+            size += 4 + payload.readableBytes();
+        }
+
+        final ByteBuf data = Unpooled.buffer(size);
+
+        data.writeInt(this.getPacketID());
+        data.writeInt(payloads.size());
+
+        for (final ByteBuf payload : payloads) {
+            data.writeInt(payload.readableBytes());
+            data.writeBytes(payload, payload.readerIndex(), payload.readableBytes());
+        }
+
+        this.configureWrite(data);
+    }
+
+    @Override
+    @SideOnly(Side.CLIENT)
+    public void clientPacketData(final INetworkInfo network, final AppEngPacket packet, final EntityPlayer player) {
+        for (final AppEngPacket p : this.packets) {
+            p.clientPacketData(network, p, player);
+        }
+    }
+}
@@ -39,6 +39,8 @@ import appeng.core.sync.AppEngPacket;
 import appeng.core.sync.network.INetworkInfo;
 import appeng.helpers.IContainerCraftingPacket;
 import appeng.items.storage.ItemViewCell;
+import appeng.me.cache.CraftingGridCache;
+import appeng.me.helpers.OreStockIndex;
 import appeng.util.Platform;
 import appeng.util.helpers.ItemHandlerUtil;
 import appeng.util.inv.AdaptorItemHandler;
@@ -55,6 +57,7 @@ import net.minecraft.nbt.CompressedStreamTools;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraftforge.items.IItemHandler;
+import net.minecraftforge.oredict.OreDictionary;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -70,6 +73,7 @@ import static appeng.helpers.ItemStackHelper.stackFromNBT;
 public class PacketJEIRecipe extends AppEngPacket {
 
     private List<ItemStack[]> recipe;
+    private int[] ores;
     private List<ItemStack> output;
     static ItemStack[] emptyArray = {ItemStack.EMPTY};
 
@@ -96,6 +100,12 @@ public class PacketJEIRecipe extends AppEngPacket {
                 }
             }
 
+            this.ores = new int[this.recipe.size()];
+            for (int x = 0; x < this.ores.length; x++) {
+                final String oreName = comp.getString("ore#" + x);
+                this.ores[x] = !oreName.isEmpty() && OreDictionary.doesOreNameExist(oreName) ? OreDictionary.getOreID(oreName) : -1;
+            }
+
             if (comp.hasKey("outputs")) {
                 final NBTTagList outputList = comp.getTagList("outputs", 10);
                 this.output = new ArrayList<>();
@@ -153,6 +163,7 @@ public class PacketJEIRecipe extends AppEngPacket {
         if (inv != null && this.recipe != null && security != null) {
             final IMEMonitor<IAEItemStack> storage = inv.getInventory(AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class));
             final IPartitionList<IAEItemStack> filter = ItemViewCell.createFilter(cct.getViewCells());
+            OreStockIndex oreStock = null;
 
             for (int x = 0; x < craftMatrix.getSlots(); x++) {
                 ItemStack currentItem = craftMatrix.getStackInSlot(x);
@@ -245,6 +256,43 @@ public class PacketJEIRecipe extends AppEngPacket {
                             }
                         }
                     }
+
+                    // none of the sent stacks is around, any other item of the ore dictionary entry does as well.
+                    if (currentItem.isEmpty() && this.ores[x] >= 0) {
+                        if (security.hasPermission(player, SecurityPermissions.EXTRACT)) {
+                            if (oreStock == null) {
+                                final int craftablesVersion = crafting instanceof CraftingGridCache ? ((CraftingGridCache) crafting).getCraftablesVersion() : 0;
+                                oreStock = OreStockIndex.get(storage, craftablesVersion);
+                            }
+
+                            for (final IAEItemStack candidate : oreStock.getStock(storage.getStorageList(), this.ores[x])) {
+                                if (filter != null && !filter.isListed(candidate)) {
+                                    continue;
+                                }
+
+                                final IAEItemStack request = candidate.copy().setStackSize(1);
+                                final IAEItemStack out;
+                                if (cct.useRealItems()) {
+                                    out = candidate.getStackSize() > 0 ? Platform.poweredExtraction(energy, storage, request, cct.getActionSource()) : null;
+                                } else {
+                                    // Query the crafting grid if there is a pattern providing the item, else it has to be in stock
+                                    out = candidate.getStackSize() > 0 || !crafting.getCraftingFor(request, null, 0, null).isEmpty() ? request : null;
+                                }
+                                if (out != null) {
+                                    if (!cct.useRealItems()) {
+                                        out.setStackSize(Math.max(1, recipe.get(x)[0].getCount()));
+                                    }
+                                    currentItem = out.createItemStack();
+                                    break;
+                                }
+                            }
+                        }
+
+                        if (currentItem.isEmpty()) {
+                            currentItem = this.takeOreFromInventory(playerInventory, this.ores[x], cct.useRealItems());
+                        }
+                    }
+
                     if (!cct.useRealItems()) {
                         if (currentItem.isEmpty() && recipe.size() > x && this.recipe.get(x) != null) {
                             currentItem = this.recipe.get(x)[0].copy();
@@ -284,6 +332,45 @@ public class PacketJEIRecipe extends AppEngPacket {
                 }
             }
         }
+        if (this.hasOre(slot, is)) {
+            return is;
+        }
+        return ItemStack.EMPTY;
+    }
+
+    private boolean hasOre(final int slot, final ItemStack is) {
+        if (slot >= this.ores.length || this.ores[slot] < 0 || is.isEmpty()) {
+            return false;
+        }
+
+        for (final int id : OreDictionary.getOreIDs(is)) {
+            if (id == this.ores[slot]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private ItemStack takeOreFromInventory(final IItemHandler playerInventory, final int ore, final boolean realItems) {
+        for (int x = 0; x < playerInventory.getSlots(); x++) {
+            final ItemStack is = playerInventory.getStackInSlot(x);
+            if (is.isEmpty()) {
+                continue;
+            }
+
+            for (final int id : OreDictionary.getOreIDs(is)) {
+                if (id == ore) {
+                    if (realItems) {
+                        return playerInventory.extractItem(x, 1, false);
+                    }
+
+                    final ItemStack copy = is.copy();
+                    copy.setCount(1);
+                    return copy;
+                }
+            }
+        }
+
         return ItemStack.EMPTY;
     }
 
@@ -0,0 +1,111 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.core.sync.packets;
+
+
+import appeng.core.sync.AppEngPacket;
+import appeng.core.sync.network.INetworkInfo;
+import appeng.tile.AEBaseTile;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+import java.util.List;
+
+
+/**
+ * The update data of all tiles of one chunk which called {@link AEBaseTile#markForUpdate()} during a server tick.
+ */
+public class PacketTileUpdates extends AppEngPacket {
+
+    /**
+     * Payload size after which the updates of a chunk are split into another packet.
+     */
+    public static final int MAX_SIZE = 512 * 1024;
+
+    private final int dimension;
+    private final BlockPos[] positions;
+    private final byte[][] payloads;
+
+    // automatic.
+    public PacketTileUpdates(final ByteBuf stream) {
+        this.dimension = stream.readInt();
+
+        final int count = stream.readInt();
+
+        this.positions = new BlockPos[count];
+        this.payloads = new byte[count][];
+
+        for (int i = 0; i < count; i++) {
+            this.positions[i] = BlockPos.fromLong(stream.readLong());
+            this.payloads[i] = new byte[stream.readInt()];
+            stream.readBytes(this.payloads[i]);
+        }
+    }
+
+    // api
+    public PacketTileUpdates(final int dimension, final List<BlockPos> positions, final List<byte[]> payloads) {
+        this.dimension = dimension;
+        this.positions = null;
+        this.payloads = null;
+
+        final ByteBuf data = Unpooled.buffer();
+
+        data.writeInt(this.getPacketID());
+        data.writeInt(dimension);
+        data.writeInt(positions.size());
+
+        for (int i = 0; i < positions.size(); i++) {
+            final byte[] payload = payloads.get(i);
+
+            data.writeLong(positions.get(i).toLong());
+            data.writeInt(payload.length);
+            data.writeBytes(payload);
+        }
+
+        this.configureWrite(data);
+    }
+
+    @Override
+    @SideOnly(Side.CLIENT)
+    public void clientPacketData(final INetworkInfo network, final AppEngPacket packet, final EntityPlayer player) {
+        final World world = player.world;
+
+        // the player changed dimension after the chunk updates were sent
+        if (world.provider.getDimension() != this.dimension) {
+            return;
+        }
+
+        for (int i = 0; i < this.positions.length; i++) {
+            if (!world.isBlockLoaded(this.positions[i])) {
+                continue;
+            }
+
+            final TileEntity te = world.getTileEntity(this.positions[i]);
+            if (te instanceof AEBaseTile) {
+                ((AEBaseTile) te).handleUpdatePayload(Unpooled.wrappedBuffer(this.payloads[i]));
+            }
+        }
+    }
+}
@@ -20,6 +20,7 @@ package appeng.core.worlddata;
 
 
 import javax.annotation.Nonnull;
+import java.io.File;
 
 
 /**
@@ -43,4 +44,10 @@ public interface IWorldData {
 
     @Nonnull
     IWorldSpawnData spawnData();
+
+    /**
+     * @return the AE2 directory inside the world save
+     */
+    @Nonnull
+    File directory();
 }
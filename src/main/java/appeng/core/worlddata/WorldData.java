@@ -187,4 +187,10 @@ public final class WorldData implements IWorldData {
     public IWorldSpawnData spawnData() {
         return this.spawnData;
     }
+
+    @Nonnull
+    @Override
+    public File directory() {
+        return this.ae2directory;
+    }
 }
@@ -52,17 +52,17 @@ public class CraftingJob implements Runnable, ICraftingJob {
 
     private final MECraftingInventory original;
     private final World world;
-    private final IItemList<IAEItemStack> crafting = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList();
-    private final IItemList<IAEItemStack> missing = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList();
-
     private final HashMap<String, TwoIntegers> opsAndMultiplier = new HashMap<>();
     private final Object monitor = new Object();
     private final Stopwatch tickSpreadingWatch = Stopwatch.createUnstarted();
     private final Stopwatch craftingTreeWatch = Stopwatch.createUnstarted();
     private final ICraftingGrid cc;
     private CraftingTreeNode tree;
+    // totals of the running calculation, the tree nodes only keep what they need to continue
+    private CraftingPlan.Builder planned;
+    private CraftingPlan plan;
     private final IAEItemStack output;
-    private boolean simulate = false;
+    private volatile boolean simulate = false;
     private MECraftingInventory availableCheck;
     private long bytes = 0;
     private final IActionSource actionSrc;
@@ -71,6 +71,7 @@ public class CraftingJob implements Runnable, ICraftingJob {
     private boolean done = false;
     private int time;
     private int incTime;
+    private volatile long steps;
 
     private World wrapWorld(final World w) {
         return w;
@@ -107,17 +108,26 @@ public class CraftingJob implements Runnable, ICraftingJob {
         return this.availableCheck.extractItems(available, Actionable.SIMULATE, this.actionSrc);
     }
 
-    void addTask(IAEItemStack what, final long crafts, final ICraftingPatternDetails details, final int depth) {
-        if (crafts > 0) {
-            what = what.copy();
-            what.setStackSize(what.getStackSize() * crafts);
-            this.crafting.add(what);
-        }
+    void addUsed(final IAEItemStack what, final long amount) {
+        this.planned.addUsed(what, amount);
+    }
+
+    void addMissing(final IAEItemStack what, final long amount) {
+        this.planned.addMissing(what, amount);
+    }
+
+    void addEmitted(final IAEItemStack what, final long amount) {
+        this.planned.addEmitted(what, amount);
     }
 
-    void addMissing(IAEItemStack what) {
-        what = what.copy();
-        this.missing.add(what);
+    void addCrafts(final ICraftingPatternDetails details, final long crafts) {
+        this.planned.addCrafts(details, crafts);
+        this.bytes += crafts * 8;
+    }
+
+    private void startPass() {
+        this.planned = new CraftingPlan.Builder();
+        this.bytes = 0;
     }
 
     @Override
@@ -131,10 +141,10 @@ public class CraftingJob implements Runnable, ICraftingJob {
                 craftingInventory.ignore(this.output);
 
                 this.availableCheck = new MECraftingInventory(this.original, false, false, false);
+                this.startPass();
                 craftingTreeWatch.reset().start();
                 this.getTree().request(craftingInventory, this.output.getStackSize(), this.actionSrc);
                 craftingTreeWatch.stop();
-                this.getTree().dive(this);
 
                 for (final String s : this.opsAndMultiplier.keySet()) {
                     final TwoIntegers ti = this.opsAndMultiplier.get(s);
@@ -156,10 +166,10 @@ public class CraftingJob implements Runnable, ICraftingJob {
 
                         this.getTree().setSimulate();
                         this.availableCheck = new MECraftingInventory(this.original, false, false, false);
+                        this.startPass();
                         craftingTreeWatch.reset().start();
                         this.getTree().request(craftingInventory, this.output.getStackSize(), this.actionSrc);
                         craftingTreeWatch.stop();
-                        this.getTree().dive(this);
 
                         for (final String s : this.opsAndMultiplier.keySet()) {
                             final TwoIntegers ti = this.opsAndMultiplier.get(s);
@@ -228,9 +238,17 @@ public class CraftingJob implements Runnable, ICraftingJob {
         }
 
         this.incTime++;
+        this.steps++;
     }
 
     private void finish() {
+        // the tree is only needed while calculating, keep the compact plan instead.
+        if (this.planned != null) {
+            this.plan = this.planned.build();
+            this.planned = null;
+        }
+        this.setTree(null);
+
         if (this.callback != null) {
             this.callback.calculationComplete(this);
         }
@@ -256,8 +274,8 @@ public class CraftingJob implements Runnable, ICraftingJob {
 
     @Override
     public void populatePlan(final IItemList<IAEItemStack> plan) {
-        if (this.getTree() != null) {
-            this.getTree().getPlan(plan);
+        if (this.plan != null) {
+            this.plan.populate(plan);
         }
     }
 
@@ -270,6 +288,20 @@ public class CraftingJob implements Runnable, ICraftingJob {
         return this.done;
     }
 
+    /**
+     * @return how many nodes of the crafting tree were visited so far, safe to call while calculating
+     */
+    public long getSteps() {
+        return this.steps;
+    }
+
+    /**
+     * @return how much of the request is available in the network, as seen when the calculation started
+     */
+    public IAEItemStack getAvailable(final IAEItemStack what) {
+        return this.original.extractItems(what, Actionable.SIMULATE, this.actionSrc);
+    }
+
     World getWorld() {
         return this.world;
     }
@@ -303,6 +335,13 @@ public class CraftingJob implements Runnable, ICraftingJob {
         return this.tree;
     }
 
+    /**
+     * @return the flattened plan, only available once the calculation is done
+     */
+    public CraftingPlan getPlan() {
+        return this.plan;
+    }
+
     private void setTree(final CraftingTreeNode tree) {
         this.tree = tree;
     }
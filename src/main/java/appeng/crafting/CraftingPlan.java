@@ -0,0 +1,231 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.crafting;
+
+
+import appeng.api.config.Actionable;
+import appeng.api.networking.crafting.ICraftingPatternDetails;
+import appeng.api.networking.security.IActionSource;
+import appeng.api.storage.data.IAEItemStack;
+import appeng.api.storage.data.IItemList;
+import appeng.core.sync.network.NetworkHandler;
+import appeng.core.sync.packets.PacketInformPlayer;
+import appeng.me.cluster.implementations.CraftingCPUCluster;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.entity.player.EntityPlayerMP;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+
+/**
+ * Flattened result of a crafting calculation.
+ * <p>
+ * Everything the plan screen and the crafting CPU need is a total per item and per pattern, so the
+ * {@link CraftingTreeNode}/{@link CraftingTreeProcess} tree adds its amounts to a shared item table and a shared pattern
+ * table with parallel primitive arrays while it is calculated. The nodes only keep what they need to continue the
+ * calculation, and processes which can't be used anymore drop their subtree.
+ */
+public final class CraftingPlan {
+
+    private final IAEItemStack[] items;
+    private final long[] used;
+    private final long[] missing;
+    private final long[] emitted;
+
+    private final ICraftingPatternDetails[] patterns;
+    private final long[] crafts;
+
+    private CraftingPlan(final Builder builder) {
+        final int itemCount = builder.itemCount;
+        final int patternCount = builder.patternCount;
+
+        this.items = Arrays.copyOf(builder.items, itemCount);
+        this.used = Arrays.copyOf(builder.used, itemCount);
+        this.missing = Arrays.copyOf(builder.missing, itemCount);
+        this.emitted = Arrays.copyOf(builder.emitted, itemCount);
+        this.patterns = Arrays.copyOf(builder.patterns, patternCount);
+        this.crafts = Arrays.copyOf(builder.crafts, patternCount);
+    }
+
+    /**
+     * Same result as walking the tree with getPlan, but merged per item.
+     */
+    public void populate(final IItemList<IAEItemStack> plan) {
+        for (int x = 0; x < this.items.length; x++) {
+            if (this.missing[x] > 0) {
+                plan.add(this.stack(x, this.missing[x]));
+            }
+
+            if (this.emitted[x] > 0) {
+                final IAEItemStack i = this.items[x].copy();
+                i.setCountRequestable(this.emitted[x]);
+                plan.addRequestable(i);
+            }
+
+            if (this.used[x] > 0) {
+                plan.add(this.stack(x, this.used[x]));
+            }
+        }
+
+        for (int x = 0; x < this.patterns.length; x++) {
+            for (IAEItemStack i : this.patterns[x].getOutputs()) {
+                i = i.copy();
+                i.setCountRequestable(i.getStackSize() * this.crafts[x]);
+                plan.addRequestable(i);
+            }
+        }
+    }
+
+    /**
+     * Moves the planned items into the crafting CPU and queues all planned crafts.
+     */
+    public void submit(final MECraftingInventory storage, final CraftingCPUCluster craftingCPUCluster, final IActionSource src) throws CraftBranchFailure {
+        for (int x = 0; x < this.items.length; x++) {
+            if (this.used[x] <= 0) {
+                continue;
+            }
+
+            final IAEItemStack i = this.stack(x, this.used[x]);
+            final IAEItemStack actuallyExtracted = storage.extractItems(i, Actionable.MODULATE, src);
+
+            if (actuallyExtracted == null || actuallyExtracted.getStackSize() != i.getStackSize()) {
+                if (src.player().isPresent()) {
+                    try {
+                        if (actuallyExtracted == null) {
+                            NetworkHandler.instance().sendTo(new PacketInformPlayer(i, null, PacketInformPlayer.InfoType.NO_ITEMS_EXTRACTED), (EntityPlayerMP) src.player().get());
+                        } else {
+                            NetworkHandler.instance().sendTo(new PacketInformPlayer(i, actuallyExtracted, PacketInformPlayer.InfoType.PARTIAL_ITEM_EXTRACTION), (EntityPlayerMP) src.player().get());
+                        }
+                    } catch (IOException e) {
+                        e.printStackTrace();
+                    }
+                }
+                throw new CraftBranchFailure(i, i.getStackSize());
+            }
+
+            craftingCPUCluster.addStorage(actuallyExtracted);
+        }
+
+        for (int x = 0; x < this.items.length; x++) {
+            if (this.emitted[x] > 0) {
+                craftingCPUCluster.addEmitable(this.stack(x, this.emitted[x]));
+            }
+        }
+
+        for (int x = 0; x < this.patterns.length; x++) {
+            craftingCPUCluster.addCrafting(this.patterns[x], this.crafts[x]);
+        }
+    }
+
+    public int getItemCount() {
+        return this.items.length;
+    }
+
+    public int getPatternCount() {
+        return this.patterns.length;
+    }
+
+    private IAEItemStack stack(final int index, final long size) {
+        final IAEItemStack is = this.items[index].copy();
+        is.setStackSize(size);
+        return is;
+    }
+
+    /**
+     * Collects the totals of a running calculation.
+     */
+    static final class Builder {
+
+        private final Object2IntOpenHashMap<IAEItemStack> itemIndex = new Object2IntOpenHashMap<>();
+        private final Object2IntOpenHashMap<ICraftingPatternDetails> patternIndex = new Object2IntOpenHashMap<>();
+
+        private IAEItemStack[] items = new IAEItemStack[16];
+        private long[] used = new long[16];
+        private long[] missing = new long[16];
+        private long[] emitted = new long[16];
+        private int itemCount = 0;
+
+        private ICraftingPatternDetails[] patterns = new ICraftingPatternDetails[16];
+        private long[] crafts = new long[16];
+        private int patternCount = 0;
+
+        Builder() {
+            this.itemIndex.defaultReturnValue(-1);
+            this.patternIndex.defaultReturnValue(-1);
+        }
+
+        void addUsed(final IAEItemStack what, final long amount) {
+            this.used[this.indexOf(what)] += amount;
+        }
+
+        void addMissing(final IAEItemStack what, final long amount) {
+            this.missing[this.indexOf(what)] += amount;
+        }
+
+        void addEmitted(final IAEItemStack what, final long amount) {
+            this.emitted[this.indexOf(what)] += amount;
+        }
+
+        void addCrafts(final ICraftingPatternDetails details, final long amount) {
+            int index = this.patternIndex.getInt(details);
+
+            if (index < 0) {
+                if (this.patternCount == this.patterns.length) {
+                    final int size = this.patternCount * 2;
+                    this.patterns = Arrays.copyOf(this.patterns, size);
+                    this.crafts = Arrays.copyOf(this.crafts, size);
+                }
+
+                index = this.patternCount++;
+                this.patterns[index] = details;
+                this.patternIndex.put(details, index);
+            }
+
+            this.crafts[index] += amount;
+        }
+
+        CraftingPlan build() {
+            return new CraftingPlan(this);
+        }
+
+        private int indexOf(final IAEItemStack what) {
+            int index = this.itemIndex.getInt(what);
+
+            if (index < 0) {
+                if (this.itemCount == this.items.length) {
+                    final int size = this.itemCount * 2;
+                    this.items = Arrays.copyOf(this.items, size);
+                    this.used = Arrays.copyOf(this.used, size);
+                    this.missing = Arrays.copyOf(this.missing, size);
+                    this.emitted = Arrays.copyOf(this.emitted, size);
+                }
+
+                final IAEItemStack key = what.copy().reset();
+                key.setStackSize(1);
+
+                index = this.itemCount++;
+                this.items[index] = key;
+                this.itemIndex.put(key, index);
+            }
+
+            return index;
+        }
+    }
+}
@@ -19,26 +19,19 @@
 package appeng.crafting;
 
 
-import appeng.api.AEApi;
 import appeng.api.config.Actionable;
 import appeng.api.config.FuzzyMode;
 import appeng.api.networking.crafting.ICraftingGrid;
 import appeng.api.networking.crafting.ICraftingPatternDetails;
 import appeng.api.networking.security.IActionSource;
-import appeng.api.storage.channels.IItemStorageChannel;
 import appeng.api.storage.data.IAEItemStack;
 import appeng.api.storage.data.IItemList;
-import appeng.core.sync.network.NetworkHandler;
-import appeng.core.sync.packets.PacketInformPlayer;
-import appeng.me.cluster.implementations.CraftingCPUCluster;
 import appeng.util.Platform;
 import appeng.util.item.AEItemStack;
 import appeng.util.item.MeaningfulItemIterator;
-import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.item.ItemStack;
 import net.minecraft.world.World;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -49,7 +42,6 @@ public class CraftingTreeNode {
     // what slot!
     private final int slot;
     private final CraftingJob job;
-    private final IItemList<IAEItemStack> used = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList();
     // parent node.
     private final CraftingTreeProcess parent;
     private final World world;
@@ -59,9 +51,7 @@ public class CraftingTreeNode {
     private final ArrayList<CraftingTreeProcess> nodes = new ArrayList<>();
     private final ICraftingGrid cc;
     private final int depth;
-    private int bytes = 0;
     private boolean canEmit = false;
-    private long missing = 0;
     private long howManyEmitted = 0;
     private boolean exhausted = false;
 
@@ -164,11 +154,11 @@ public class CraftingTreeNode {
 
                             if (is != null) {
                                 thingsUsed.add(is.copy());
-                                this.used.add(is);
+                                this.job.addUsed(is, is.getStackSize());
                             }
                         }
 
-                        this.bytes += available.getStackSize();
+                        this.job.addBytes(available.getStackSize());
                         l -= available.getStackSize();
 
                         if (l == 0) {
@@ -186,11 +176,11 @@ public class CraftingTreeNode {
 
                     if (is != null) {
                         thingsUsed.add(is.copy());
-                        this.used.add(is);
+                        this.job.addUsed(is, is.getStackSize());
                     }
                 }
 
-                this.bytes += available.getStackSize();
+                this.job.addBytes(available.getStackSize());
                 l -= available.getStackSize();
 
                 if (l == 0) {
@@ -203,8 +193,10 @@ public class CraftingTreeNode {
             final IAEItemStack wat = this.what.copy();
             wat.setStackSize(l);
 
+            // only the last emitted amount of a node counts
+            this.job.addEmitted(this.what, wat.getStackSize() - this.howManyEmitted);
             this.howManyEmitted = wat.getStackSize();
-            this.bytes += wat.getStackSize();
+            this.job.addBytes(wat.getStackSize());
 
             return wat;
         }
@@ -232,7 +224,7 @@ public class CraftingTreeNode {
                         }
                     }
 
-                    this.bytes += available.getStackSize();
+                    this.job.addBytes(available.getStackSize());
                     l -= available.getStackSize();
 
                     if (l <= 0) {
@@ -240,6 +232,7 @@ public class CraftingTreeNode {
                     }
                 } else {
                     pro.possible = false; // ;P
+                    pro.release();
                 }
             }
         } else if (this.nodes.size() > 1) {
@@ -257,7 +250,7 @@ public class CraftingTreeNode {
                                 throw new CraftBranchFailure(this.what, l);
                             }
 
-                            this.bytes += available.getStackSize();
+                            this.job.addBytes(available.getStackSize());
                             l -= available.getStackSize();
 
                             if (l <= 0) {
@@ -265,6 +258,7 @@ public class CraftingTreeNode {
                             }
                         } else {
                             pro.possible = false; // ;P
+                            pro.release();
                         }
                     }
                 } catch (final CraftBranchFailure fail) {
@@ -274,7 +268,7 @@ public class CraftingTreeNode {
         }
 
         if (job.isSimulation()) {
-            this.bytes += l;
+            this.job.addBytes(l);
             if (parent != null && this.what.getItem().hasContainerItem(this.what.getDefinition())) {
                 final ItemStack is2 = Platform.getContainerItem(this.what.copy().setStackSize(1).createItemStack());
                 final IAEItemStack o = AEItemStack.fromItemStack(is2);
@@ -283,7 +277,7 @@ public class CraftingTreeNode {
                     this.parent.addContainers(o);
                 }
             }
-            this.missing += l;
+            this.job.addMissing(this.what, l);
             final IAEItemStack rv = this.what.copy();
             rv.setStackSize(l);
             return rv;
@@ -291,8 +285,7 @@ public class CraftingTreeNode {
 
         for (final IAEItemStack o : thingsUsed) {
             this.job.refund(o.copy());
-            o.setStackSize(-o.getStackSize());
-            this.used.add(o);
+            this.job.addUsed(o, -o.getStackSize());
         }
 
         throw new CraftBranchFailure(this.what, l);
@@ -308,29 +301,8 @@ public class CraftingTreeNode {
         return this.parent.notRecursive(details);
     }
 
-    void dive(final CraftingJob job) {
-        if (this.missing > 0) {
-            job.addMissing(this.getStack(this.missing));
-        }
-        // missing = 0;
-
-        job.addBytes(this.bytes);
-
-        for (final CraftingTreeProcess pro : this.nodes) {
-            pro.dive(job);
-        }
-    }
-
-    IAEItemStack getStack(final long size) {
-        final IAEItemStack is = this.what.copy();
-        is.setStackSize(size);
-        return is;
-    }
-
     void setSimulate() {
-        this.missing = 0;
-        this.bytes = 0;
-        this.used.resetStatus();
+        this.howManyEmitted = 0;
         this.exhausted = false;
 
         for (final CraftingTreeProcess pro : this.nodes) {
@@ -338,61 +310,6 @@ public class CraftingTreeNode {
         }
     }
 
-    public void setJob(final MECraftingInventory storage, final CraftingCPUCluster craftingCPUCluster, final IActionSource src) throws CraftBranchFailure {
-        for (final IAEItemStack i : this.used) {
-            final IAEItemStack actuallyExtracted = storage.extractItems(i, Actionable.MODULATE, src);
-
-            if (actuallyExtracted == null || actuallyExtracted.getStackSize() != i.getStackSize()) {
-                if (src.player().isPresent()) {
-                    try {
-                        if (actuallyExtracted == null) {
-                            NetworkHandler.instance().sendTo(new PacketInformPlayer(i, null, PacketInformPlayer.InfoType.NO_ITEMS_EXTRACTED), (EntityPlayerMP) src.player().get());
-                        } else {
-                            NetworkHandler.instance().sendTo(new PacketInformPlayer(i, actuallyExtracted, PacketInformPlayer.InfoType.PARTIAL_ITEM_EXTRACTION), (EntityPlayerMP) src.player().get());
-                        }
-                    } catch (IOException e) {
-                        e.printStackTrace();
-                    }
-                }
-                throw new CraftBranchFailure(i, i.getStackSize());
-            }
-
-            craftingCPUCluster.addStorage(actuallyExtracted);
-        }
-
-        if (this.howManyEmitted > 0) {
-            final IAEItemStack i = this.what.copy().reset();
-            i.setStackSize(this.howManyEmitted);
-            craftingCPUCluster.addEmitable(i);
-        }
-
-        for (final CraftingTreeProcess pro : this.nodes) {
-            pro.setJob(storage, craftingCPUCluster, src);
-        }
-    }
-
-    void getPlan(final IItemList<IAEItemStack> plan) {
-        if (this.missing > 0) {
-            final IAEItemStack o = this.what.copy();
-            o.setStackSize(this.missing);
-            plan.add(o);
-        }
-
-        if (this.howManyEmitted > 0) {
-            final IAEItemStack i = this.what.copy();
-            i.setCountRequestable(this.howManyEmitted);
-            plan.addRequestable(i);
-        }
-
-        for (final IAEItemStack i : this.used) {
-            plan.add(i.copy());
-        }
-
-        for (final CraftingTreeProcess pro : this.nodes) {
-            pro.getPlan(plan);
-        }
-    }
-
     int getSlot() {
         return this.slot;
     }
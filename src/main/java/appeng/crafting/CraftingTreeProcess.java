@@ -24,9 +24,7 @@ import appeng.api.networking.crafting.ICraftingGrid;
 import appeng.api.networking.crafting.ICraftingPatternDetails;
 import appeng.api.networking.security.IActionSource;
 import appeng.api.storage.data.IAEItemStack;
-import appeng.api.storage.data.IItemList;
 import appeng.core.AEConfig;
-import appeng.me.cluster.implementations.CraftingCPUCluster;
 import com.google.common.collect.ImmutableCollection;
 import it.unimi.dsi.fastutil.objects.Object2LongArrayMap;
 import net.minecraft.world.World;
@@ -44,8 +42,6 @@ public class CraftingTreeProcess {
     private final ICraftingGrid cc;
     private final World world;
     boolean possible = true;
-    private long crafts = 0;
-    private long bytes = 0;
     private ArrayList<IAEItemStack> containers;
 
     public CraftingTreeProcess(final ICraftingGrid cc, final CraftingJob job, final ICraftingPatternDetails details, final CraftingTreeNode craftingTreeNode, final int depth) {
@@ -215,7 +211,7 @@ public class CraftingTreeProcess {
             o.setStackSize(o.getStackSize() * amountOfTimes);
             inv.injectItems(o, Actionable.MODULATE, src);
         }
-        this.crafts += amountOfTimes;
+        this.job.addCrafts(this.details, amountOfTimes);
     }
 
     public void addContainers(IAEItemStack container) {
@@ -225,15 +221,6 @@ public class CraftingTreeProcess {
         this.containers.add(container);
     }
 
-    void dive(final CraftingJob job) {
-        job.addTask(this.getAmountCrafted(this.parent.getStack(1)), this.crafts, this.details, this.depth);
-        for (final Entry<CraftingTreeNode, Long> entry : this.nodes.object2LongEntrySet()) {
-            entry.getKey().dive(job);
-        }
-
-        job.addBytes(this.crafts * 8 + this.bytes);
-    }
-
     IAEItemStack getAmountCrafted(IAEItemStack what2) {
         for (final IAEItemStack is : this.details.getCondensedOutputs()) {
             if (is.isSameType(what2)) {
@@ -255,32 +242,17 @@ public class CraftingTreeProcess {
         throw new IllegalStateException("Crafting Tree construction failed.");
     }
 
-    void setSimulate() {
-        this.crafts = 0;
-        this.bytes = 0;
-
-        for (final Entry<CraftingTreeNode, Long> entry : this.nodes.object2LongEntrySet()) {
-            entry.getKey().setSimulate();
-        }
+    /**
+     * Drops the subtree of a process which will not be requested again, its totals are already in the job.
+     */
+    void release() {
+        this.nodes.clear();
+        this.containers = null;
     }
 
-    void setJob(final MECraftingInventory storage, final CraftingCPUCluster craftingCPUCluster, final IActionSource src) throws CraftBranchFailure {
-        craftingCPUCluster.addCrafting(this.details, this.crafts);
-
-        for (final Entry<CraftingTreeNode, Long> entry : this.nodes.object2LongEntrySet()) {
-            entry.getKey().setJob(storage, craftingCPUCluster, src);
-        }
-    }
-
-    void getPlan(final IItemList<IAEItemStack> plan) {
-        for (IAEItemStack i : this.details.getOutputs()) {
-            i = i.copy();
-            i.setCountRequestable(i.getStackSize() * this.crafts);
-            plan.addRequestable(i);
-        }
-
+    void setSimulate() {
         for (final Entry<CraftingTreeNode, Long> entry : this.nodes.object2LongEntrySet()) {
-            entry.getKey().getPlan(plan);
+            entry.getKey().setSimulate();
         }
     }
 }
@@ -241,7 +241,7 @@ public class MECraftingInventory implements IMEInventory<IAEItemStack> {
 
     public boolean commit(final IActionSource src) {
         final IItemList<IAEItemStack> added = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList();
-        final IItemList<IAEItemStack> pulled = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList();
+        IItemList<IAEItemStack> pulled = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList();
         boolean failed = false;
 
         if (this.logInjections) {
@@ -265,9 +265,11 @@ public class MECraftingInventory implements IMEInventory<IAEItemStack> {
         }
 
         if (this.logExtracted) {
+            // one batched extraction, so the network only walks its storage and posts its changes once.
+            pulled = this.target.extractItems(this.extractedCache, Actionable.MODULATE, src);
+
             for (final IAEItemStack extra : this.extractedCache) {
-                IAEItemStack result = null;
-                pulled.add(result = this.target.extractItems(extra, Actionable.MODULATE, src));
+                final IAEItemStack result = pulled.findPrecise(extra);
 
                 if (result == null || result.getStackSize() != extra.getStackSize()) {
                     if (src.player().isPresent()) {
@@ -66,6 +66,8 @@ import net.minecraftforge.fluids.capability.IFluidHandlerItem;
 import javax.annotation.Nonnull;
 import java.io.IOException;
 import java.nio.BufferOverflowException;
+import java.util.ArrayList;
+import java.util.List;
 
 
 /**
@@ -77,6 +79,8 @@ public class ContainerFluidTerminal extends AEBaseContainer implements IConfigMa
     private final IConfigManager clientCM;
     private final IMEMonitor<IAEFluidStack> monitor;
     private final IItemList<IAEFluidStack> fluids = AEApi.instance().storage().getStorageChannel(IFluidStorageChannel.class).createList();
+    // the amounts the client was last told about
+    private final IItemList<IAEFluidStack> sent = AEApi.instance().storage().getStorageChannel(IFluidStorageChannel.class).createList();
     @GuiSync(99)
     public boolean hasPower = false;
     private final ITerminalHost terminal;
@@ -142,8 +146,8 @@ public class ContainerFluidTerminal extends AEBaseContainer implements IConfigMa
 
     @Override
     public void onListUpdate() {
-        for (final IContainerListener c : this.listeners) {
-            this.queueInventory(c);
+        if (Platform.isServer() && this.monitor != null) {
+            this.queueListChanges();
         }
     }
 
@@ -169,23 +173,91 @@ public class ContainerFluidTerminal extends AEBaseContainer implements IConfigMa
                 final IItemList<IAEFluidStack> monitorCache = this.monitor.getStorageList();
 
                 for (final IAEFluidStack send : monitorCache) {
+                    this.updateSent(send);
+
                     try {
                         piu.appendFluid(send);
                     } catch (final BufferOverflowException boe) {
-                        NetworkHandler.instance().sendTo(piu, (EntityPlayerMP) c);
+                        NetworkHandler.instance().queueTo(piu, (EntityPlayerMP) c);
 
                         piu = new PacketMEFluidInventoryUpdate();
                         piu.appendFluid(send);
                     }
                 }
 
-                NetworkHandler.instance().sendTo(piu, (EntityPlayerMP) c);
+                NetworkHandler.instance().queueTo(piu, (EntityPlayerMP) c);
             } catch (final IOException e) {
                 AELog.debug(e);
             }
         }
     }
 
+    /**
+     * Sends only the fluids whose amount differs from what the clients were last sent, and a zero amount for the ones
+     * which are gone, instead of the whole list.
+     */
+    private void queueListChanges() {
+        try {
+            final IItemList<IAEFluidStack> monitorCache = this.monitor.getStorageList();
+            final List<PacketMEFluidInventoryUpdate> packets = new ArrayList<>();
+            PacketMEFluidInventoryUpdate piu = new PacketMEFluidInventoryUpdate();
+
+            for (final IAEFluidStack is : monitorCache) {
+                final IAEFluidStack old = this.sent.findPrecise(is);
+                if (old != null && old.isMeaningful() && old.getStackSize() == is.getStackSize() && old.isCraftable() == is.isCraftable()) {
+                    continue;
+                }
+
+                this.updateSent(is);
+                piu = this.appendFluid(packets, piu, is);
+            }
+
+            for (final IAEFluidStack old : this.sent) {
+                final IAEFluidStack current = monitorCache.findPrecise(old);
+                if (current == null || !current.isMeaningful()) {
+                    piu = this.appendFluid(packets, piu, old.copy().setStackSize(0));
+                    old.reset();
+                }
+            }
+
+            if (!piu.isEmpty()) {
+                packets.add(piu);
+            }
+
+            for (final IContainerListener c : this.listeners) {
+                if (c instanceof EntityPlayerMP) {
+                    for (final PacketMEFluidInventoryUpdate p : packets) {
+                        NetworkHandler.instance().queueTo(p, (EntityPlayerMP) c);
+                    }
+                }
+            }
+        } catch (final IOException e) {
+            AELog.debug(e);
+        }
+    }
+
+    private PacketMEFluidInventoryUpdate appendFluid(final List<PacketMEFluidInventoryUpdate> packets, PacketMEFluidInventoryUpdate piu, final IAEFluidStack fs) throws IOException {
+        try {
+            piu.appendFluid(fs);
+        } catch (final BufferOverflowException boe) {
+            packets.add(piu);
+
+            piu = new PacketMEFluidInventoryUpdate();
+            piu.appendFluid(fs);
+        }
+        return piu;
+    }
+
+    private void updateSent(final IAEFluidStack fs) {
+        final IAEFluidStack old = this.sent.findPrecise(fs);
+        if (old == null) {
+            this.sent.add(fs.copy());
+        } else {
+            old.reset();
+            old.add(fs);
+        }
+    }
+
     @Override
     public IConfigManager getConfigManager() {
         if (Platform.isServer()) {
@@ -232,7 +304,7 @@ public class ContainerFluidTerminal extends AEBaseContainer implements IConfigMa
                     for (final IContainerListener crafter : this.listeners) {
                         if (crafter instanceof EntityPlayerMP) {
                             try {
-                                NetworkHandler.instance().sendTo(new PacketValueConfig(set.name(), sideLocal.name()), (EntityPlayerMP) crafter);
+                                NetworkHandler.instance().queueTo(new PacketValueConfig(set.name(), sideLocal.name()), (EntityPlayerMP) crafter);
                             } catch (final IOException e) {
                                 AELog.debug(e);
                             }
@@ -252,8 +324,10 @@ public class ContainerFluidTerminal extends AEBaseContainer implements IConfigMa
                         if (send == null) {
                             is.setStackSize(0);
                             piu.appendFluid(is);
+                            this.updateSent(is);
                         } else {
                             piu.appendFluid(send);
+                            this.updateSent(send);
                         }
                     }
 
@@ -262,7 +336,7 @@ public class ContainerFluidTerminal extends AEBaseContainer implements IConfigMa
 
                         for (final Object c : this.listeners) {
                             if (c instanceof EntityPlayer) {
-                                NetworkHandler.instance().sendTo(piu, (EntityPlayerMP) c);
+                                NetworkHandler.instance().queueTo(piu, (EntityPlayerMP) c);
                             }
                         }
                     }
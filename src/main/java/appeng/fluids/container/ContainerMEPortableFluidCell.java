@@ -211,7 +211,7 @@ public class ContainerMEPortableFluidCell extends AEBaseContainer implements IAE
                     for (final IContainerListener crafter : this.listeners) {
                         if (crafter instanceof EntityPlayerMP) {
                             try {
-                                NetworkHandler.instance().sendTo(new PacketValueConfig(set.name(), sideLocal.name()), (EntityPlayerMP) crafter);
+                                NetworkHandler.instance().queueTo(new PacketValueConfig(set.name(), sideLocal.name()), (EntityPlayerMP) crafter);
                             } catch (final IOException e) {
                                 AELog.debug(e);
                             }
@@ -241,7 +241,7 @@ public class ContainerMEPortableFluidCell extends AEBaseContainer implements IAE
 
                         for (final Object c : this.listeners) {
                             if (c instanceof EntityPlayer) {
-                                NetworkHandler.instance().sendTo(piu, (EntityPlayerMP) c);
+                                NetworkHandler.instance().queueTo(piu, (EntityPlayerMP) c);
                             }
                         }
                     }
@@ -493,14 +493,14 @@ public class ContainerMEPortableFluidCell extends AEBaseContainer implements IAE
                     try {
                         piu.appendFluid(send);
                     } catch (final BufferOverflowException boe) {
-                        NetworkHandler.instance().sendTo(piu, (EntityPlayerMP) c);
+                        NetworkHandler.instance().queueTo(piu, (EntityPlayerMP) c);
 
                         piu = new PacketMEFluidInventoryUpdate();
                         piu.appendFluid(send);
                     }
                 }
 
-                NetworkHandler.instance().sendTo(piu, (EntityPlayerMP) c);
+                NetworkHandler.instance().queueTo(piu, (EntityPlayerMP) c);
             } catch (final IOException e) {
                 AELog.debug(e);
             }
@@ -22,13 +22,21 @@ package appeng.fluids.util;
 import appeng.api.config.FuzzyMode;
 import appeng.api.storage.data.IAEFluidStack;
 import appeng.api.storage.data.IItemList;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraftforge.fluids.Fluid;
 
 import java.util.*;
 
 
 public final class FluidList implements IItemList<IAEFluidStack> {
 
-    private final Map<IAEFluidStack, IAEFluidStack> records = new HashMap<>();
+    /**
+     * the variants of each fluid, which only differ by their tag.
+     */
+    private final Reference2ObjectMap<Fluid, Map<IAEFluidStack, IAEFluidStack>> records = new Reference2ObjectOpenHashMap<>();
+    private int size = 0;
 
     @Override
     public void add(final IAEFluidStack option) {
@@ -63,7 +71,9 @@ public final class FluidList implements IItemList<IAEFluidStack> {
             return Collections.emptyList();
         }
 
-        return Collections.singletonList(this.findPrecise(filter));
+        // fluids have no damage, every fuzzy mode matches all variants of the fluid.
+        final Map<IAEFluidStack, IAEFluidStack> variants = this.records.get(filter.getFluid());
+        return variants != null ? Collections.unmodifiableCollection(variants.values()) : Collections.emptyList();
     }
 
     @Override
@@ -146,12 +156,12 @@ public final class FluidList implements IItemList<IAEFluidStack> {
 
     @Override
     public int size() {
-        return this.records.values().size();
+        return this.size;
     }
 
     @Override
     public Iterator<IAEFluidStack> iterator() {
-        return new MeaningfulFluidIterator<>(this.records.values().iterator());
+        return new FluidIterator();
     }
 
     @Override
@@ -162,10 +172,75 @@ public final class FluidList implements IItemList<IAEFluidStack> {
     }
 
     private IAEFluidStack getFluidRecord(final IAEFluidStack fluid) {
-        return this.records.get(fluid);
+        final Map<IAEFluidStack, IAEFluidStack> variants = this.records.get(fluid.getFluid());
+        return variants != null ? variants.get(fluid) : null;
+    }
+
+    private void putFluidRecord(final IAEFluidStack fluid) {
+        this.records.computeIfAbsent(fluid.getFluid(), f -> new Object2ObjectOpenHashMap<>(2)).put(fluid, fluid);
+        this.size++;
     }
 
-    private IAEFluidStack putFluidRecord(final IAEFluidStack fluid) {
-        return this.records.put(fluid, fluid);
+    /**
+     * Only returns meaningful fluids and removes the others as it goes, fluids without any variant left are dropped.
+     */
+    private final class FluidIterator implements Iterator<IAEFluidStack> {
+
+        private final Iterator<Map<IAEFluidStack, IAEFluidStack>> parent = FluidList.this.records.values().iterator();
+        private Map<IAEFluidStack, IAEFluidStack> currentVariants;
+        private Iterator<IAEFluidStack> current = Collections.emptyIterator();
+        private IAEFluidStack next;
+
+        @Override
+        public boolean hasNext() {
+            while (this.next == null) {
+                if (this.current.hasNext()) {
+                    final IAEFluidStack fs = this.current.next();
+
+                    if (fs.isMeaningful()) {
+                        this.next = fs;
+                    } else {
+                        this.current.remove();
+                        FluidList.this.size--;
+                    }
+                } else {
+                    this.removeEmptyVariants();
+
+                    if (this.parent.hasNext()) {
+                        this.currentVariants = this.parent.next();
+                        this.current = this.currentVariants.values().iterator();
+                    } else {
+                        return false;
+                    }
+                }
+            }
+
+            return true;
+        }
+
+        @Override
+        public IAEFluidStack next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            final IAEFluidStack result = this.next;
+            this.next = null;
+            return result;
+        }
+
+        @Override
+        public void remove() {
+            this.current.remove();
+            FluidList.this.size--;
+            this.removeEmptyVariants();
+        }
+
+        private void removeEmptyVariants() {
+            if (this.currentVariants != null && this.currentVariants.isEmpty()) {
+                this.parent.remove();
+                this.currentVariants = null;
+            }
+        }
     }
 }
@@ -35,6 +35,7 @@ import appeng.api.networking.energy.IEnergySource;
 import appeng.api.networking.events.MENetworkCraftingPatternChange;
 import appeng.api.networking.security.IActionHost;
 import appeng.api.networking.security.IActionSource;
+import appeng.api.networking.storage.IStackWatcher;
 import appeng.api.networking.storage.IStorageGrid;
 import appeng.api.networking.ticking.IGridTickable;
 import appeng.api.networking.ticking.TickRateModulation;
@@ -47,6 +48,7 @@ import appeng.api.storage.channels.IItemStorageChannel;
 import appeng.api.storage.data.IAEFluidStack;
 import appeng.api.storage.data.IAEItemStack;
 import appeng.api.storage.data.IAEStack;
+import appeng.api.storage.data.IItemList;
 import appeng.api.util.AECableType;
 import appeng.api.util.AEPartLocation;
 import appeng.api.util.DimensionalCoord;
@@ -71,6 +73,7 @@ import appeng.tile.networking.TileCableBus;
 import appeng.util.ConfigManager;
 import appeng.util.IConfigManagerHost;
 import appeng.util.InventoryAdaptor;
+import appeng.util.NeighborCache;
 import appeng.util.Platform;
 import appeng.util.inv.*;
 import appeng.util.item.AEItemStack;
@@ -137,6 +140,7 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
     private EnumMap<EnumFacing, List<ItemStack>> waitingToSendFacing = new EnumMap<>(EnumFacing.class);
     private boolean resetConfigCache = true;
     private IMEMonitor<IAEItemStack> configCachedHandler;
+    private IStackWatcher configWatcher;
 
     private YesNo redstoneState = YesNo.UNDECIDED;
 
@@ -401,6 +405,8 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
 
         final boolean has = this.hasWorkToDo();
 
+        this.configureWatchers();
+
         if (had != has) {
             try {
                 if (has) {
@@ -659,7 +665,108 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
         }
 
         final boolean couldDoWork = this.updateStorage();
-        return this.hasWorkToDo() ? (couldDoWork ? TickRateModulation.URGENT : TickRateModulation.SLOWER) : TickRateModulation.SLEEP;
+
+        if (!this.hasWorkToDo()) {
+            return TickRateModulation.SLEEP;
+        }
+
+        if (couldDoWork) {
+            return TickRateModulation.URGENT;
+        }
+
+        return this.isWaitingForNetworkStock() ? TickRateModulation.SLEEP : TickRateModulation.SLOWER;
+    }
+
+    /**
+     * The only remaining work is pulling configured items the network does not have right now. The stack watcher wakes
+     * us once their amount changes, local slot changes already do, so there is no need to keep polling the network.
+     */
+    private boolean isWaitingForNetworkStock() {
+        if (this.configWatcher == null || this.hasItemsToSend() || this.hasItemsToSendFacing()) {
+            return false;
+        }
+
+        IItemList<IAEItemStack> craftables = null;
+        if (this.getInstalledUpgrades(Upgrades.CRAFTING) > 0) {
+            try {
+                craftables = this.gridProxy.getStorage().getInventory(AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class)).getStorageList();
+            } catch (final GridAccessException e) {
+                return false;
+            }
+        }
+
+        return isWaitingForNetworkStock(this.requireWork, this.craftingTracker, craftables);
+    }
+
+    /**
+     * Nothing wakes us once a crafting CPU frees up, so a craftable item is still polled for when a crafting card is
+     * installed: the tracker drops a job that found no free CPU and only a later {@link #updateStorage()} retries it.
+     */
+    static boolean isWaitingForNetworkStock(final IAEItemStack[] requireWork, final MultiCraftingTracker craftingTracker, @Nullable final IItemList<IAEItemStack> craftables) {
+        for (int x = 0; x < requireWork.length; x++) {
+            final IAEItemStack work = requireWork[x];
+
+            if (work == null) {
+                continue;
+            }
+
+            if (work.getStackSize() < 0 || craftingTracker.isBusy(x)) {
+                return false;
+            }
+
+            if (craftables != null) {
+                final IAEItemStack stored = craftables.findPrecise(work);
+                if (stored != null && stored.isCraftable()) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    public void updateWatcher(final IStackWatcher newWatcher) {
+        this.configWatcher = newWatcher;
+        this.configureWatchers();
+    }
+
+    private void configureWatchers() {
+        if (this.configWatcher == null) {
+            return;
+        }
+
+        this.configWatcher.reset();
+
+        for (int x = 0; x < NUMBER_OF_CONFIG_SLOTS; x++) {
+            final IAEItemStack req = this.config.getAEStackInSlot(x);
+
+            if (req != null) {
+                this.configWatcher.add(req);
+            }
+        }
+    }
+
+    public void onStackChange(final IAEStack<?> fullStack, final IAEStack<?> diffStack) {
+        this.alertIfWorkToDo();
+    }
+
+    /**
+     * A stocking interface may be asleep waiting on its stack watcher, which stays silent while the network is
+     * unpowered, so power coming back has to wake it as well.
+     */
+    public void onPowerStatusChange() {
+        this.notifyNeighbors();
+        this.alertIfWorkToDo();
+    }
+
+    private void alertIfWorkToDo() {
+        if (this.hasWorkToDo()) {
+            try {
+                this.gridProxy.getTick().alertDevice(this.gridProxy.getNode());
+            } catch (final GridAccessException e) {
+                // :P
+            }
+        }
     }
 
     private void pushItemsOut(final EnumSet<EnumFacing> possibleDirections) {
@@ -668,19 +775,13 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
         }
 
         final TileEntity tile = this.iHost.getTileEntity();
-        final World w = tile.getWorld();
 
         final Iterator<ItemStack> i = this.waitingToSend.iterator();
         while (i.hasNext()) {
             ItemStack whatToSend = i.next();
 
             for (final EnumFacing s : possibleDirections) {
-                final TileEntity te = w.getTileEntity(tile.getPos().offset(s));
-                if (te == null) {
-                    continue;
-                }
-
-                final InventoryAdaptor ad = InventoryAdaptor.getAdaptor(te, s.getOpposite());
+                final InventoryAdaptor ad = NeighborCache.getAdaptor(tile, s);
                 if (ad != null) {
                     final ItemStack result = ad.addItems(whatToSend);
 
@@ -713,9 +814,8 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
         }
 
         final TileEntity tile = this.iHost.getTileEntity();
-        final World w = tile.getWorld();
 
-        final TileEntity te = w.getTileEntity(tile.getPos().offset(s));
+        final TileEntity te = NeighborCache.getTileEntity(tile, s);
         if (te == null) {
             return;
         }
@@ -762,7 +862,7 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
             return;
         }
 
-        final InventoryAdaptor ad = InventoryAdaptor.getAdaptor(te, s.getOpposite());
+        final InventoryAdaptor ad = NeighborCache.getAdaptor(tile, s);
 
         final Iterator<ItemStack> i = this.waitingToSendFacing.get(s).iterator();
         while (i.hasNext()) {
@@ -1025,7 +1125,7 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
         }
 
         for (final EnumFacing s : visitedFaces) {
-            final TileEntity te = w.getTileEntity(tile.getPos().offset(s));
+            final TileEntity te = NeighborCache.getTileEntity(tile, s);
             if (te == null) {
                 visitedFaces.remove(s);
                 continue;
@@ -1103,7 +1203,7 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
                 }
             }
 
-            InventoryAdaptor ad = InventoryAdaptor.getAdaptor(te, s.getOpposite());
+            InventoryAdaptor ad = NeighborCache.getAdaptor(tile, s);
             if (ad != null) {
                 if (this.isBlocking()) {
                     IPhantomTile phantomTE;
@@ -1214,7 +1314,7 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
             boolean allAreBusy = true;
 
             for (final EnumFacing s : possibleDirections) {
-                final TileEntity te = w.getTileEntity(tile.getPos().offset(s));
+                final TileEntity te = NeighborCache.getTileEntity(tile, s);
 
                 if (te instanceof IInterfaceHost || (te instanceof TileCableBus && ((TileCableBus) te).getPart(s.getOpposite()) instanceof PartInterface)) {
                     try {
@@ -1245,7 +1345,7 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
                     continue;
                 }
 
-                final InventoryAdaptor ad = InventoryAdaptor.getAdaptor(te, s.getOpposite());
+                final InventoryAdaptor ad = NeighborCache.getAdaptor(tile, s);
                 if (ad != null) {
                     if (Platform.isModLoaded("actuallyadditions") && Platform.GTLoaded && te instanceof IPhantomTile phantomTE) {
                         if (phantomTE.hasBoundPosition()) {
@@ -22,14 +22,20 @@ package appeng.helpers;
 import appeng.api.implementations.IUpgradeableHost;
 import appeng.api.networking.crafting.ICraftingProvider;
 import appeng.api.networking.crafting.ICraftingRequester;
+import appeng.api.networking.security.IActionSource;
+import appeng.api.networking.storage.IStackWatcher;
+import appeng.api.networking.storage.IStackWatcherHost;
+import appeng.api.storage.IStorageChannel;
 import appeng.api.storage.data.IAEItemStack;
+import appeng.api.storage.data.IAEStack;
+import appeng.api.storage.data.IItemList;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
 
 import java.util.EnumSet;
 
 
-public interface IInterfaceHost extends ICraftingProvider, IUpgradeableHost, ICraftingRequester {
+public interface IInterfaceHost extends ICraftingProvider, IUpgradeableHost, ICraftingRequester, IStackWatcherHost {
 
     DualityInterface getInterfaceDuality();
 
@@ -42,4 +48,14 @@ public interface IInterfaceHost extends ICraftingProvider, IUpgradeableHost, ICr
     default void onStackReturnNetwork(IAEItemStack stack) {
         getInterfaceDuality().onStackReturnedToNetwork(stack);
     }
+
+    @Override
+    default void updateWatcher(IStackWatcher newWatcher) {
+        getInterfaceDuality().updateWatcher(newWatcher);
+    }
+
+    @Override
+    default void onStackChange(IItemList<?> o, IAEStack<?> fullStack, IAEStack<?> diffStack, IActionSource src, IStorageChannel<?> chan) {
+        getInterfaceDuality().onStackChange(fullStack, diffStack);
+    }
 }
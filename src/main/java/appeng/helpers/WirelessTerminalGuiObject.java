@@ -31,7 +31,6 @@ import appeng.api.implementations.tiles.IViewCellStorage;
 import appeng.api.implementations.tiles.IWirelessAccessPoint;
 import appeng.api.networking.IGrid;
 import appeng.api.networking.IGridNode;
-import appeng.api.networking.IMachineSet;
 import appeng.api.networking.security.IActionHost;
 import appeng.api.networking.security.IActionSource;
 import appeng.api.networking.storage.IStorageGrid;
@@ -45,13 +44,12 @@ import appeng.api.storage.data.IItemList;
 import appeng.api.util.DimensionalCoord;
 import appeng.api.util.IConfigManager;
 import appeng.container.interfaces.IInventorySlotAware;
+import appeng.me.cache.WirelessGridCache;
 import appeng.me.cluster.IAECluster;
 import appeng.me.cluster.implementations.QuantumCluster;
 import appeng.parts.automation.StackUpgradeInventory;
 import appeng.parts.automation.UpgradeInventory;
 import appeng.tile.inventory.AppEngInternalInventory;
-import appeng.tile.networking.TileWireless;
-import appeng.tile.qnb.TileQuantumBridge;
 import appeng.util.inv.IAEAppEngInventory;
 import appeng.util.inv.InvOperation;
 import net.minecraft.entity.player.EntityPlayer;
@@ -267,36 +265,26 @@ public class WirelessTerminalGuiObject implements IPortableCell, IActionHost, II
                 return false;
             }
 
-            IMachineSet tw = this.targetGrid.getMachines(TileWireless.class);
+            final WirelessGridCache wc = this.targetGrid.getCache(WirelessGridCache.class);
 
             this.myWap = null;
-            this.myQC = null;
 
-            for (final IGridNode n : tw) {
-                final IWirelessAccessPoint wap = (IWirelessAccessPoint) n.getMachine();
+            for (final IWirelessAccessPoint wap : wc.getAccessPoints(this.myPlayer.world, this.myPlayer.posX, this.myPlayer.posZ)) {
                 if (this.testWap(wap)) {
                     this.myWap = wap;
                 }
             }
 
-            if (myWap != null) return true;
-
-            tw = this.targetGrid.getMachines(TileQuantumBridge.class);
-            for (final IGridNode n : tw) {
-                TileQuantumBridge tqb = (TileQuantumBridge) n.getMachine();
-                if (tqb.getCluster() != null) {
-                    TileQuantumBridge center = ((QuantumCluster) tqb.getCluster()).getCenter();
-                    if (center != null) {
-                        if (center.getInternalInventory().getStackInSlot(1).isItemEqual(AEApi.instance().definitions().materials().cardQuantumLink().maybeStack(1).get())) {
-                            myQC = (QuantumCluster) tqb.getCluster();
-                            myRange = 1;
-                            return true;
-                        }
-                    }
-                }
+            if (this.myWap != null) {
+                this.myQC = null;
+                return true;
             }
 
-            return this.myWap != null || this.myQC != null;
+            this.myQC = wc.getLinkedQuantumCluster();
+            if (this.myQC != null) {
+                this.myRange = 1;
+                return true;
+            }
         }
         return false;
     }
@@ -26,9 +26,12 @@ import appeng.api.util.AEColor;
 import appeng.core.AEConfig;
 import appeng.core.AELog;
 import appeng.core.AppEng;
+import appeng.core.sync.network.NetworkHandler;
 import appeng.core.sync.packets.PacketPaintedEntity;
+import appeng.core.sync.packets.PacketTileUpdates;
 import appeng.crafting.CraftingJob;
 import appeng.me.Grid;
+import appeng.me.metrics.GridMetricsRegistry;
 import appeng.tile.AEBaseTile;
 import appeng.util.IWorldCallable;
 import appeng.util.Platform;
@@ -36,7 +39,15 @@ import com.google.common.base.Preconditions;
 import com.google.common.base.Stopwatch;
 import com.google.common.collect.LinkedListMultimap;
 import com.google.common.collect.Multimap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.server.management.PlayerChunkMapEntry;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
 import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.gameevent.TickEvent;
@@ -54,6 +65,7 @@ public class TickHandler {
     private final Queue<IWorldCallable<?>> serverQueue = new ArrayDeque<>();
     private final Multimap<World, CraftingJob> craftingJobs = LinkedListMultimap.create();
     private final WeakHashMap<World, Queue<IWorldCallable<?>>> callQueue = new WeakHashMap<>();
+    private final WeakHashMap<WorldServer, Long2ObjectLinkedOpenHashMap<List<AEBaseTile>>> tileUpdates = new WeakHashMap<>();
     private final HandlerRep server = new HandlerRep();
     private final HandlerRep client = new HandlerRep();
     private final HashMap<Integer, PlayerColor> cliPlayerColors = new HashMap<>();
@@ -102,6 +114,17 @@ public class TickHandler {
         }
     }
 
+    /**
+     * Queue a serverside tile for the batched update packet of its chunk at the end of the tick.
+     */
+    public void addTileUpdate(final WorldServer world, final AEBaseTile tile) {
+        final BlockPos pos = tile.getPos();
+
+        this.tileUpdates.computeIfAbsent(world, w -> new Long2ObjectLinkedOpenHashMap<>())
+                .computeIfAbsent(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4), c -> new ArrayList<>())
+                .add(tile);
+    }
+
     private HandlerRep getRepo() {
         if (Platform.isServer()) {
             return this.server;
@@ -129,6 +152,7 @@ public class TickHandler {
 
     public void shutdown() {
         this.getRepo().clear();
+        this.tileUpdates.clear();
     }
 
     @SubscribeEvent
@@ -196,8 +220,14 @@ public class TickHandler {
                 g.update();
             }
 
+            GridMetricsRegistry.INSTANCE.onServerTick();
+
             // cross world queue.
             this.processQueue(this.serverQueue, null);
+
+            this.sendTileUpdates();
+
+            NetworkHandler.instance().sendQueued();
         }
 
         // world synced queue(s)
@@ -240,6 +270,67 @@ public class TickHandler {
         }
     }
 
+    private void sendTileUpdates() {
+        for (final Map.Entry<WorldServer, Long2ObjectLinkedOpenHashMap<List<AEBaseTile>>> e : this.tileUpdates.entrySet()) {
+            final WorldServer world = e.getKey();
+
+            for (final Long2ObjectMap.Entry<List<AEBaseTile>> chunk : e.getValue().long2ObjectEntrySet()) {
+                final int cx = (int) chunk.getLongKey();
+                final int cz = (int) (chunk.getLongKey() >>> 32);
+                final PlayerChunkMapEntry watchers = world.getPlayerChunkMap().getEntry(cx, cz);
+
+                if (watchers == null || !watchers.isSentToPlayers()) {
+                    for (final AEBaseTile tile : chunk.getValue()) {
+                        tile.dequeueUpdate();
+                    }
+                    continue;
+                }
+
+                final List<BlockPos> positions = new ArrayList<>();
+                final List<byte[]> payloads = new ArrayList<>();
+                int size = 0;
+
+                for (final AEBaseTile tile : chunk.getValue()) {
+                    if (tile.isInvalid()) {
+                        tile.dequeueUpdate();
+                        continue;
+                    }
+
+                    // tiles without data still get a render update on the client.
+                    final byte[] payload = tile.takeUpdatePayload();
+                    final byte[] data = payload == null ? new byte[0] : payload;
+
+                    positions.add(tile.getPos());
+                    payloads.add(data);
+                    size += 12 + data.length;
+
+                    if (size > PacketTileUpdates.MAX_SIZE) {
+                        this.sendTileUpdates(world, watchers, positions, payloads);
+                        positions.clear();
+                        payloads.clear();
+                        size = 0;
+                    }
+                }
+
+                if (!positions.isEmpty()) {
+                    this.sendTileUpdates(world, watchers, positions, payloads);
+                }
+            }
+        }
+
+        this.tileUpdates.clear();
+    }
+
+    private void sendTileUpdates(final WorldServer world, final PlayerChunkMapEntry watchers, final List<BlockPos> positions, final List<byte[]> payloads) {
+        final PacketTileUpdates packet = new PacketTileUpdates(world.provider.getDimension(), positions, payloads);
+
+        for (final EntityPlayer player : world.playerEntities) {
+            if (watchers.containsPlayer((EntityPlayerMP) player)) {
+                NetworkHandler.instance().sendTo(packet, (EntityPlayerMP) player);
+            }
+        }
+    }
+
     public void registerCraftingSimulation(final World world, final CraftingJob craftingJob) {
         synchronized (this.craftingJobs) {
             this.craftingJobs.put(world, craftingJob);
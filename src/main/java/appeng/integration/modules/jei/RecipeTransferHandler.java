@@ -29,6 +29,8 @@ import appeng.core.sync.network.NetworkHandler;
 import appeng.core.sync.packets.PacketJEIRecipe;
 import appeng.core.sync.packets.PacketValueConfig;
 import appeng.util.Platform;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
 import mezz.jei.api.gui.IGuiIngredient;
 import mezz.jei.api.gui.IRecipeLayout;
 import mezz.jei.api.recipe.VanillaRecipeCategoryUid;
@@ -41,6 +43,7 @@ import net.minecraft.inventory.Slot;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
+import net.minecraftforge.oredict.OreDictionary;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -129,6 +132,12 @@ class RecipeTransferHandler<T extends Container> implements IRecipeTransferHandl
                             list.add(displayed);
                         }
 
+                        // an ore dictionary slot is sent by name, the server looks up the rest on its own.
+                        final String oreName = getOreName(ingredient.getAllIngredients());
+                        if (oreName != null) {
+                            recipe.setString("ore#" + slot.getSlotIndex(), oreName);
+                        }
+
                         // prefer pure crystals.
                         for (ItemStack stack : ingredient.getAllIngredients()) {
                             if (stack == null) {
@@ -136,7 +145,7 @@ class RecipeTransferHandler<T extends Container> implements IRecipeTransferHandl
                             }
                             if (Platform.isRecipePrioritized(stack)) {
                                 list.add(0, stack);
-                            } else {
+                            } else if (oreName == null) {
                                 list.add(stack);
                             }
                         }
@@ -165,4 +174,63 @@ class RecipeTransferHandler<T extends Container> implements IRecipeTransferHandl
 
         return null;
     }
+
+    /**
+     * @return the name of an ore dictionary entry made up of exactly these alternatives, or null if there is none
+     */
+    @Nullable
+    private static String getOreName(final List<ItemStack> alternatives) {
+        if (alternatives.size() < 2) {
+            return null;
+        }
+
+        IntSet common = null;
+        for (final ItemStack is : alternatives) {
+            if (is == null || is.isEmpty()) {
+                continue;
+            }
+
+            final IntSet ids = new IntOpenHashSet(OreDictionary.getOreIDs(is));
+            if (common == null) {
+                common = ids;
+            } else {
+                common.retainAll(ids);
+            }
+
+            if (common.isEmpty()) {
+                return null;
+            }
+        }
+
+        if (common == null) {
+            return null;
+        }
+
+        for (final int id : common) {
+            final String name = OreDictionary.getOreName(id);
+            if (coversOre(name, alternatives)) {
+                return name;
+            }
+        }
+
+        return null;
+    }
+
+    private static boolean coversOre(final String name, final List<ItemStack> alternatives) {
+        for (final ItemStack ore : OreDictionary.getOres(name, false)) {
+            boolean found = false;
+            for (final ItemStack is : alternatives) {
+                if (is != null && OreDictionary.itemMatches(ore, is, false)) {
+                    found = true;
+                    break;
+                }
+            }
+
+            if (!found) {
+                return false;
+            }
+        }
+
+        return true;
+    }
 }
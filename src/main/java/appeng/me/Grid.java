@@ -23,6 +23,8 @@ import appeng.api.AEApi;
 import appeng.api.networking.*;
 import appeng.api.networking.events.MENetworkEvent;
 import appeng.api.networking.events.MENetworkPostCacheConstruction;
+import appeng.api.storage.data.IAEItemStack;
+import appeng.api.storage.data.IItemList;
 import appeng.api.util.IReadOnlyCollection;
 import appeng.core.worlddata.WorldData;
 import appeng.hooks.TickHandler;
@@ -39,6 +41,7 @@ public class Grid implements IGrid {
     private GridNode pivot;
     private int priority; // how import is this network?
     private GridStorage myStorage;
+    private int censusVersion;
 
     public Grid(final GridNode center) {
         this.pivot = center;
@@ -71,6 +74,34 @@ public class Grid implements IGrid {
         return this.caches;
     }
 
+    /**
+     * Called when the idle power usage of a node changed.
+     */
+    public void updateIdlePowerUsage(final GridNode gridNode) {
+        final MachineSet nodes = this.machines.get(gridNode.getMachineClass());
+        if (nodes != null && nodes.contains(gridNode)) {
+            nodes.updateCensus(gridNode);
+            this.censusVersion++;
+        }
+    }
+
+    /**
+     * @return a number which changes whenever the result of {@link #populateCensus(IItemList)} may change
+     */
+    public int getCensusVersion() {
+        return this.censusVersion;
+    }
+
+    /**
+     * adds the machines of this grid, one stack per machine type sized by their count, with their idle power times 100
+     * as requestable count.
+     */
+    public void populateCensus(final IItemList<IAEItemStack> out) {
+        for (final MachineSet set : this.machines.values()) {
+            set.populateCensus(out);
+        }
+    }
+
     public Iterable<Class<? extends IGridHost>> getMachineClasses() {
         return this.machines.keySet();
     }
@@ -90,9 +121,10 @@ public class Grid implements IGrid {
         }
 
         final Class<? extends IGridHost> machineClass = gridNode.getMachineClass();
-        final Set<IGridNode> nodes = this.machines.get(machineClass);
-        if (nodes != null) {
-            nodes.remove(gridNode);
+        final MachineSet nodes = this.machines.get(machineClass);
+        if (nodes != null && nodes.remove(gridNode)) {
+            nodes.removeFromCensus(gridNode);
+            this.censusVersion++;
         }
 
         gridNode.setGridStorage(null);
@@ -159,7 +191,10 @@ public class Grid implements IGrid {
         gridNode.setGridStorage(this.myStorage);
 
         // track node.
-        nodes.add(gridNode);
+        if (nodes.add(gridNode)) {
+            nodes.addToCensus(gridNode);
+            this.censusVersion++;
+        }
 
         for (final IGridCache cache : this.caches.values()) {
             final IGridHost machine = gridNode.getMachine();
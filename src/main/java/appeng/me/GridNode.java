@@ -54,6 +54,8 @@ public class GridNode implements IGridNode, IPathItem {
     private final IGridBlock gridProxy;
     // old power draw, used to diff
     private double previousDraw = 0.0;
+    private MachineSet.CensusEntry censusEntry;
+    private double censusDraw;
     private long lastSecurityKey = -1;
     private int playerID = -1;
     private GridStorage myStorage = null;
@@ -570,6 +572,19 @@ public class GridNode implements IGridNode, IPathItem {
         this.previousDraw = previousDraw;
     }
 
+    MachineSet.CensusEntry getCensusEntry() {
+        return this.censusEntry;
+    }
+
+    double getCensusDraw() {
+        return this.censusDraw;
+    }
+
+    void setCensus(final MachineSet.CensusEntry entry, final double draw) {
+        this.censusEntry = entry;
+        this.censusDraw = draw;
+    }
+
     private static class MachineSecurityBreak implements IWorldCallable<Void> {
         private final GridNode node;
 
@@ -19,11 +19,18 @@
 package appeng.me;
 
 
+import appeng.api.networking.IGridBlock;
 import appeng.api.networking.IGridHost;
 import appeng.api.networking.IGridNode;
 import appeng.api.networking.IMachineSet;
+import appeng.api.storage.data.IAEItemStack;
+import appeng.api.storage.data.IItemList;
+import appeng.util.item.AEItemStack;
+import net.minecraft.item.ItemStack;
 
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 
 
 public class MachineSet extends HashSet<IGridNode> implements IMachineSet {
@@ -32,6 +39,11 @@ public class MachineSet extends HashSet<IGridNode> implements IMachineSet {
 
     private final Class<? extends IGridHost> machine;
 
+    /**
+     * count and idle power of the nodes by their machine representation, kept up to date as nodes come and go.
+     */
+    private final transient Map<IAEItemStack, CensusEntry> census = new HashMap<>();
+
     MachineSet(final Class<? extends IGridHost> m) {
         this.machine = m;
     }
@@ -40,4 +52,70 @@ public class MachineSet extends HashSet<IGridNode> implements IMachineSet {
     public Class<? extends IGridHost> getMachineClass() {
         return this.machine;
     }
+
+    void addToCensus(final GridNode node) {
+        final IGridBlock blk = node.getGridBlock();
+        final ItemStack is = blk.getMachineRepresentation();
+        if (is.isEmpty()) {
+            return;
+        }
+
+        final IAEItemStack key = AEItemStack.fromItemStack(is);
+        key.setStackSize(1);
+
+        final CensusEntry entry = this.census.computeIfAbsent(key, CensusEntry::new);
+        entry.count++;
+        entry.idlePower += blk.getIdlePowerUsage();
+
+        node.setCensus(entry, blk.getIdlePowerUsage());
+    }
+
+    void removeFromCensus(final GridNode node) {
+        final CensusEntry entry = node.getCensusEntry();
+        if (entry == null) {
+            return;
+        }
+
+        entry.count--;
+        entry.idlePower -= node.getCensusDraw();
+        if (entry.count <= 0) {
+            this.census.remove(entry.machine);
+        }
+
+        node.setCensus(null, 0);
+    }
+
+    void updateCensus(final GridNode node) {
+        final CensusEntry entry = node.getCensusEntry();
+        if (entry == null) {
+            return;
+        }
+
+        final double draw = node.getGridBlock().getIdlePowerUsage();
+        entry.idlePower += draw - node.getCensusDraw();
+        node.setCensus(entry, draw);
+    }
+
+    /**
+     * adds one stack per machine type, sized by the number of machines and with their idle power as requestable count.
+     */
+    void populateCensus(final IItemList<IAEItemStack> out) {
+        for (final CensusEntry entry : this.census.values()) {
+            final IAEItemStack ais = entry.machine.copy();
+            ais.setStackSize(entry.count);
+            ais.setCountRequestable((long) (entry.idlePower * 100.0));
+            out.add(ais);
+        }
+    }
+
+    static class CensusEntry {
+
+        private final IAEItemStack machine;
+        private long count;
+        private double idlePower;
+
+        private CensusEntry(final IAEItemStack machine) {
+            this.machine = machine;
+        }
+    }
 }
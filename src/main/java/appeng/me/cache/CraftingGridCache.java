@@ -42,6 +42,7 @@ import appeng.api.storage.data.IAEItemStack;
 import appeng.api.storage.data.IAEStack;
 import appeng.api.storage.data.IItemList;
 import appeng.crafting.CraftingJob;
+import appeng.crafting.CraftingJobFuture;
 import appeng.crafting.CraftingLink;
 import appeng.crafting.CraftingLinkNexus;
 import appeng.crafting.CraftingWatcher;
@@ -63,6 +64,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.StreamSupport;
 
 
@@ -81,6 +83,7 @@ public class CraftingGridCache implements ICraftingGrid, ICraftingProviderHelper
     private final Set<ICraftingProvider> craftingProviders = new HashSet<>();
     private final Map<IGridNode, ICraftingWatcher> craftingWatchers = new HashMap<>();
     private final IGrid grid;
+    private final AtomicInteger pendingCalculations = new AtomicInteger();
     private final Object2ObjectMap<ICraftingPatternDetails, List<ICraftingMedium>> craftingMethods = new Object2ObjectOpenHashMap<>();
     private final Object2ObjectMap<IAEItemStack, ImmutableList<ICraftingPatternDetails>> craftableItems = new Object2ObjectOpenHashMap<>();
     private final Set<IAEItemStack> emitableItems = new HashSet<>();
@@ -92,6 +95,7 @@ public class CraftingGridCache implements ICraftingGrid, ICraftingProviderHelper
     int i;
     private boolean updateList = false;
     private boolean updatePatterns = false;
+    private int craftablesVersion = 0;
 
     public CraftingGridCache(final IGrid grid) {
         this.grid = grid;
@@ -283,9 +287,17 @@ public class CraftingGridCache implements ICraftingGrid, ICraftingProviderHelper
             }
         }
 
+        this.craftablesVersion++;
         this.storageGrid.postCraftablesChanges(AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class), craftablesChanged, new BaseActionSource());
     }
 
+    /**
+     * Changes every time the craftable items are recalculated, craftable changes are not posted to storage listeners.
+     */
+    public int getCraftablesVersion() {
+        return this.craftablesVersion;
+    }
+
     private void updateCPUClusters() {
         this.craftingCPUClusters.clear();
 
@@ -444,7 +456,44 @@ public class CraftingGridCache implements ICraftingGrid, ICraftingProviderHelper
 
         final CraftingJob job = new CraftingJob(world, grid, actionSrc, slotItem, cb);
 
-        return CRAFTING_POOL.submit(job, job);
+        final CraftingJobFuture future = new CraftingJobFuture(() ->
+        {
+            try {
+                job.run();
+            } finally {
+                this.pendingCalculations.decrementAndGet();
+            }
+        }, job);
+
+        this.pendingCalculations.incrementAndGet();
+        CRAFTING_POOL.execute(future);
+        return future;
+    }
+
+    /**
+     * @return crafting calculations of this grid which are queued or still running
+     */
+    public int getPendingCalculations() {
+        return this.pendingCalculations.get();
+    }
+
+    /**
+     * @return the number of usable crafting CPUs, and how many of them are busy
+     */
+    public int[] getCpuUsage() {
+        final int[] usage = new int[2];
+
+        for (final CraftingCPUCluster cpu : this.craftingCPUClusters) {
+            if (cpu.isActive() && !cpu.isDestroyed()) {
+                usage[0]++;
+
+                if (cpu.isBusy()) {
+                    usage[1]++;
+                }
+            }
+        }
+
+        return usage;
     }
 
     @Override
@@ -128,6 +128,7 @@ public class EnergyGridCache implements IEnergyGrid {
         node.setPreviousDraw(newDraw);
 
         this.drainPerTick += diffDraw;
+        ((Grid) this.myGrid).updateIdlePowerUsage(node);
     }
 
     @MENetworkEventSubscribe
@@ -233,6 +234,46 @@ public class EnergyGridCache implements IEnergyGrid {
         return pm.divide(extracted);
     }
 
+    /**
+     * Whether the amount can be paid by this grid's own storage without touching its buffer, so extracting it up front
+     * and refunding the unused part later can never drop the grid below the powered threshold.
+     */
+    public boolean canReserveAEPower(final double amt, final PowerMultiplier pm) {
+        final double toReserve = pm.multiply(amt);
+        final double buffered = this.localStorage.getAECurrentPower();
+
+        return this.extractProviderPower(toReserve + buffered, Actionable.SIMULATE) - buffered >= toReserve;
+    }
+
+    /**
+     * Gives back power that was extracted but ended up unused, it is not counted as injected power.
+     */
+    public void refundAEPower(final double amt, final PowerMultiplier pm) {
+        final double refund = pm.multiply(amt);
+
+        if (refund <= 0) {
+            return;
+        }
+
+        final double buffered = Math.max(0, Math.min(refund, MAX_BUFFER_STORAGE - this.localStorage.getAECurrentPower()));
+        if (buffered > 0) {
+            this.localStorage.addCurrentAEPower(buffered);
+        }
+
+        double returned = buffered;
+        if (refund > buffered) {
+            // the buffer is full, hand the rest back to the storages it was taken from
+            final double rest = refund - buffered;
+            final double stored = rest - this.injectProviderPower(rest, Actionable.MODULATE);
+
+            this.tickInjectionPerTick -= stored;
+            returned += stored;
+        }
+
+        this.globalAvailablePower += returned;
+        this.tickDrainPerTick = Math.max(0, this.tickDrainPerTick - returned);
+    }
+
     @Override
     public double getIdlePowerUsage() {
         return this.drainPerTick + this.pgc.getChannelPowerUsage();
@@ -39,7 +39,9 @@ import appeng.api.storage.data.IItemList;
 import appeng.me.helpers.BaseActionSource;
 import appeng.me.helpers.GenericInterestManager;
 import appeng.me.helpers.MachineSource;
+import appeng.me.metrics.OpCounter;
 import appeng.me.storage.ItemWatcher;
+import appeng.me.storage.MEInventoryHandler;
 import appeng.me.storage.NetworkInventoryHandler;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.SetMultimap;
@@ -57,6 +59,8 @@ public class GridStorageCache implements IStorageGrid {
     private final HashMap<IGridNode, IStackWatcher> watchers = new HashMap<>();
     private final Map<IStorageChannel<? extends IAEStack>, NetworkInventoryHandler<?>> storageNetworks;
     private final Map<IStorageChannel<? extends IAEStack>, NetworkMonitor<?>> storageMonitors;
+    private final OpCounter injectOps = new OpCounter();
+    private final OpCounter extractOps = new OpCounter();
     private int localDepth;
 
     public GridStorageCache(final IGrid g) {
@@ -70,6 +74,8 @@ public class GridStorageCache implements IStorageGrid {
     @Override
     public void onUpdateTick() {
         this.storageMonitors.forEach((channel, monitor) -> monitor.onTick());
+        this.injectOps.sample();
+        this.extractOps.sample();
     }
 
     @Override
@@ -219,7 +225,7 @@ public class GridStorageCache implements IStorageGrid {
     private <T extends IAEStack<T>, C extends IStorageChannel<T>> NetworkInventoryHandler<T> buildNetworkStorage(final C chan) {
         final SecurityCache security = this.getGrid().getCache(ISecurityGrid.class);
 
-        final NetworkInventoryHandler<T> storageNetwork = new NetworkInventoryHandler<>(chan, security);
+        final NetworkInventoryHandler<T> storageNetwork = new NetworkInventoryHandler<>(chan, security, this.injectOps, this.extractOps);
 
         for (final ICellProvider cc : this.activeCellProviders) {
             for (final IMEInventoryHandler<T> h : cc.getCellArray(chan)) {
@@ -252,6 +258,42 @@ public class GridStorageCache implements IStorageGrid {
         this.inactiveCellProviders.remove(provider);
     }
 
+    /**
+     * Sums up the used and total bytes of all active cells of the channel, as far as they expose their cell inventory.
+     *
+     * @return used bytes and total bytes
+     */
+    public long[] getCellBytes(final IStorageChannel<?> channel) {
+        final long[] bytes = new long[2];
+
+        for (final ICellProvider cc : this.activeCellProviders) {
+            for (final IMEInventoryHandler<?> h : cc.getCellArray(channel)) {
+                IMEInventory<?> inv = h;
+                while (inv instanceof MEInventoryHandler) {
+                    inv = ((MEInventoryHandler<?>) inv).getInternal();
+                }
+
+                if (inv instanceof ICellInventoryHandler) {
+                    final ICellInventory<?> ci = ((ICellInventoryHandler<?>) inv).getCellInv();
+                    if (ci != null) {
+                        bytes[0] += ci.getUsedBytes();
+                        bytes[1] += ci.getTotalBytes();
+                    }
+                }
+            }
+        }
+
+        return bytes;
+    }
+
+    public OpCounter getInjectOps() {
+        return this.injectOps;
+    }
+
+    public OpCounter getExtractOps() {
+        return this.extractOps;
+    }
+
     public GenericInterestManager<ItemWatcher> getInterestManager() {
         return this.interestManager;
     }
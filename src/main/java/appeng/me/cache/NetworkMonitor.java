@@ -33,6 +33,7 @@ import appeng.api.storage.channels.IItemStorageChannel;
 import appeng.api.storage.data.IAEStack;
 import appeng.api.storage.data.IItemList;
 import appeng.me.storage.ItemWatcher;
+import appeng.me.storage.StorageTraceRecorder;
 import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 
@@ -86,6 +87,11 @@ public class NetworkMonitor<T extends IAEStack<T>> implements IMEMonitor<T> {
         return this.getHandler().extractItems(request, mode, src);
     }
 
+    @Override
+    public IItemList<T> extractItems(final IItemList<T> requests, final Actionable mode, final IActionSource src) {
+        return this.getHandler().extractItems(requests, mode, src);
+    }
+
     @Override
     public AccessRestriction getAccess() {
         return this.getHandler().getAccess();
@@ -232,6 +238,10 @@ public class NetworkMonitor<T extends IAEStack<T>> implements IMEMonitor<T> {
             }
         }
 
+        if (StorageTraceRecorder.isRecording()) {
+            StorageTraceRecorder.INSTANCE.recordPostChange(this, this.myChannel, changes);
+        }
+
         this.notifyListenersOfChange(changes, src);
 
         if (src2MonitorsMap.get(src).getFirst() == this) {
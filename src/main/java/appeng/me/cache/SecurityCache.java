@@ -24,7 +24,10 @@ import appeng.api.networking.IGrid;
 import appeng.api.networking.IGridHost;
 import appeng.api.networking.IGridNode;
 import appeng.api.networking.IGridStorage;
+import appeng.api.networking.events.MENetworkBootingStatusChange;
+import appeng.api.networking.events.MENetworkChannelsChanged;
 import appeng.api.networking.events.MENetworkEventSubscribe;
+import appeng.api.networking.events.MENetworkPowerStatusChange;
 import appeng.api.networking.events.MENetworkSecurityChange;
 import appeng.api.networking.security.ISecurityGrid;
 import appeng.api.networking.security.ISecurityProvider;
@@ -32,33 +35,84 @@ import appeng.core.worlddata.WorldData;
 import appeng.me.GridNode;
 import com.google.common.base.Preconditions;
 import com.mojang.authlib.GameProfile;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
 import net.minecraft.entity.player.EntityPlayer;
 
 import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 
 public class SecurityCache implements ISecurityGrid {
 
+    private static final int ALL_PERMISSIONS = -1;
+    private static final int MAX_DECISIONS = 256;
+
     private final IGrid myGrid;
     private final List<ISecurityProvider> securityProvider = new ArrayList<>();
     private final HashMap<Integer, EnumSet<SecurityPermissions>> playerPerms = new HashMap<>();
+    private final Int2IntOpenHashMap permissionMasks = new Int2IntOpenHashMap();
+    // weak keys, so grids that were destroyed do not stay reachable through the grids they accessed
+    private final Map<IGrid, Decision> decisions = new WeakHashMap<>();
     private long securityKey = -1;
 
+    /**
+     * Changes whenever a permission decision of this grid may change, see {@link #invalidateDecisions()}.
+     */
+    private int version = 0;
+    private int availableVersion = -1;
+    private boolean available = false;
+
     public SecurityCache(final IGrid g) {
         this.myGrid = g;
+        this.permissionMasks.defaultReturnValue(ALL_PERMISSIONS);
     }
 
     @MENetworkEventSubscribe
     public void updatePermissions(final MENetworkSecurityChange ev) {
+        this.invalidateDecisions();
         this.playerPerms.clear();
+        this.permissionMasks.clear();
         if (this.securityProvider.isEmpty()) {
             return;
         }
 
         this.securityProvider.get(0).readPermissions(this.playerPerms);
+
+        for (final Map.Entry<Integer, EnumSet<SecurityPermissions>> e : this.playerPerms.entrySet()) {
+            int mask = 0;
+            for (final SecurityPermissions perm : e.getValue()) {
+                mask |= 1 << perm.ordinal();
+            }
+            this.permissionMasks.put(e.getKey().intValue(), mask);
+        }
+    }
+
+    @MENetworkEventSubscribe
+    public void updatePermissions(final MENetworkPowerStatusChange ev) {
+        this.invalidateDecisions();
+    }
+
+    @MENetworkEventSubscribe
+    public void updatePermissions(final MENetworkBootingStatusChange ev) {
+        this.invalidateDecisions();
+    }
+
+    @MENetworkEventSubscribe
+    public void updatePermissions(final MENetworkChannelsChanged ev) {
+        this.invalidateDecisions();
+    }
+
+    /**
+     * The decisions of this grid are dropped right away, the grids that cached a decision about this grid notice the
+     * new version on their next check.
+     */
+    private void invalidateDecisions() {
+        this.version++;
+        this.decisions.clear();
     }
 
     public long getSecurityKey() {
@@ -80,6 +134,7 @@ public class SecurityCache implements ISecurityGrid {
 
     private void updateSecurityKey() {
         final long lastCode = this.securityKey;
+        this.invalidateDecisions();
 
         int newOwner = -1;
         if (this.securityProvider.size() == 1) {
@@ -128,7 +183,12 @@ public class SecurityCache implements ISecurityGrid {
 
     @Override
     public boolean isAvailable() {
-        return this.securityProvider.size() == 1 && this.securityProvider.get(0).isSecurityEnabled();
+        if (this.availableVersion != this.version) {
+            this.availableVersion = this.version;
+            this.available = this.securityProvider.size() == 1 && this.securityProvider.get(0).isSecurityEnabled();
+        }
+
+        return this.available;
     }
 
     @Override
@@ -144,19 +204,35 @@ public class SecurityCache implements ISecurityGrid {
 
     @Override
     public boolean hasPermission(final int playerID, final SecurityPermissions perm) {
-        if (playerID == -1) {
-            return true;
-        }
-        if (this.isAvailable()) {
-            final EnumSet<SecurityPermissions> perms = this.playerPerms.get(playerID);
+        return (this.getPermissionMask(playerID) & (1 << perm.ordinal())) != 0;
+    }
+
+    /**
+     * Permission of the machines of another grid, which act as the owner of that grid.
+     */
+    public boolean hasPermission(final IGrid source, final SecurityPermissions perm) {
+        final SecurityCache sourceSecurity = source.getCache(ISecurityGrid.class);
+        Decision d = this.decisions.get(source);
 
-            if (perms == null) {
-                return this.hasPermission(-1, perm);
+        if (d == null || d.sourceVersion != sourceSecurity.version) {
+            if (this.decisions.size() >= MAX_DECISIONS) {
+                this.decisions.clear();
             }
 
-            return perms.contains(perm);
+            d = new Decision(sourceSecurity.version, this.getPermissionMask(sourceSecurity.getOwner()));
+            this.decisions.put(source, d);
+        }
+
+        return (d.mask & (1 << perm.ordinal())) != 0;
+    }
+
+    private int getPermissionMask(final int playerID) {
+        if (playerID == -1 || !this.isAvailable()) {
+            return ALL_PERMISSIONS;
         }
-        return true;
+
+        // players without an entry get the permissions of the default player, which are all if it has none either.
+        return this.permissionMasks.get(playerID);
     }
 
     @Override
@@ -170,4 +246,20 @@ public class SecurityCache implements ISecurityGrid {
     public IGrid getGrid() {
         return this.myGrid;
     }
+
+    /**
+     * The permissions of the machines of a source grid on this grid. It stays valid as long as neither grid changed its
+     * permissions, security key, power, booting or channel state: changes of this grid clear all decisions, changes of
+     * the source grid are caught by its version. It holds no reference to the source grid.
+     */
+    private static class Decision {
+
+        private final int sourceVersion;
+        private final int mask;
+
+        private Decision(final int sourceVersion, final int mask) {
+            this.sourceVersion = sourceVersion;
+            this.mask = mask;
+        }
+    }
 }
@@ -0,0 +1,246 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.cache;
+
+
+import appeng.api.AEApi;
+import appeng.api.implementations.tiles.IWirelessAccessPoint;
+import appeng.api.networking.IGrid;
+import appeng.api.networking.IGridCache;
+import appeng.api.networking.IGridHost;
+import appeng.api.networking.IGridNode;
+import appeng.api.networking.IGridStorage;
+import appeng.api.util.DimensionalCoord;
+import appeng.me.cluster.IAECluster;
+import appeng.me.cluster.implementations.QuantumCluster;
+import appeng.tile.qnb.TileQuantumBridge;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+
+/**
+ * Index of the wireless access points of a grid by the chunks their range covers, so a wireless terminal only tests
+ * the access points around its player.
+ * <p>
+ * The index only knows location and range, if an access point is active is still checked on lookup.
+ */
+public class WirelessGridCache implements IGridCache {
+
+    /**
+     * Access points covering more chunks than this are kept in one list per dimension instead.
+     */
+    private static final int MAX_INDEXED_CHUNKS = 1024;
+
+    private final IGrid myGrid;
+    private final Reference2ObjectOpenHashMap<IWirelessAccessPoint, Coverage> accessPoints = new Reference2ObjectOpenHashMap<>();
+    private final Int2ObjectOpenHashMap<Long2ObjectOpenHashMap<List<IWirelessAccessPoint>>> chunks = new Int2ObjectOpenHashMap<>();
+    private final Int2ObjectOpenHashMap<List<IWirelessAccessPoint>> wide = new Int2ObjectOpenHashMap<>();
+
+    public WirelessGridCache(final IGrid g) {
+        this.myGrid = g;
+    }
+
+    /**
+     * @return the access points which may reach the given position, active or not
+     */
+    public Collection<IWirelessAccessPoint> getAccessPoints(final World w, final double x, final double z) {
+        final int dim = w.provider.getDimension();
+        final Long2ObjectOpenHashMap<List<IWirelessAccessPoint>> dimChunks = this.chunks.get(dim);
+        final List<IWirelessAccessPoint> local = dimChunks == null ? null : dimChunks.get(ChunkPos.asLong((int) Math.floor(x) >> 4, (int) Math
+                .floor(z) >> 4));
+        final List<IWirelessAccessPoint> wide = this.wide.get(dim);
+
+        if (wide == null) {
+            return local == null ? Collections.emptyList() : local;
+        }
+
+        if (local == null) {
+            return wide;
+        }
+
+        final List<IWirelessAccessPoint> out = new ArrayList<>(local.size() + wide.size());
+        out.addAll(local);
+        out.addAll(wide);
+        return out;
+    }
+
+    /**
+     * @return a cluster of the grid with a quantum link card in its center, or null
+     */
+    public QuantumCluster getLinkedQuantumCluster() {
+        final ItemStack card = AEApi.instance().definitions().materials().cardQuantumLink().maybeStack(1).orElse(ItemStack.EMPTY);
+        if (card.isEmpty()) {
+            return null;
+        }
+
+        final Set<IAECluster> seen = new ReferenceOpenHashSet<>();
+
+        for (final IGridNode n : this.myGrid.getMachines(TileQuantumBridge.class)) {
+            final IAECluster cluster = ((TileQuantumBridge) n.getMachine()).getCluster();
+            if (cluster == null || !seen.add(cluster)) {
+                continue;
+            }
+
+            final TileQuantumBridge center = ((QuantumCluster) cluster).getCenter();
+            if (center != null && center.getInternalInventory().getStackInSlot(1).isItemEqual(card)) {
+                return (QuantumCluster) cluster;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Called when the range of an access point changed.
+     */
+    public void updateAccessPoint(final IWirelessAccessPoint wap) {
+        if (this.remove(wap)) {
+            this.add(wap);
+        }
+    }
+
+    @Override
+    public void onUpdateTick() {
+
+    }
+
+    @Override
+    public void removeNode(final IGridNode gridNode, final IGridHost machine) {
+        if (machine instanceof IWirelessAccessPoint) {
+            this.remove((IWirelessAccessPoint) machine);
+        }
+    }
+
+    @Override
+    public void addNode(final IGridNode gridNode, final IGridHost machine) {
+        if (machine instanceof IWirelessAccessPoint) {
+            this.add((IWirelessAccessPoint) machine);
+        }
+    }
+
+    @Override
+    public void onSplit(final IGridStorage destinationStorage) {
+
+    }
+
+    @Override
+    public void onJoin(final IGridStorage sourceStorage) {
+
+    }
+
+    @Override
+    public void populateGridStorage(final IGridStorage destinationStorage) {
+
+    }
+
+    private void add(final IWirelessAccessPoint wap) {
+        final DimensionalCoord dc = wap.getLocation();
+        if (dc == null || dc.getWorld() == null) {
+            return;
+        }
+
+        final double range = wap.getRange();
+        final int dim = dc.getWorld().provider.getDimension();
+        final int minX = (int) Math.floor(dc.x - range) >> 4;
+        final int maxX = (int) Math.floor(dc.x + range) >> 4;
+        final int minZ = (int) Math.floor(dc.z - range) >> 4;
+        final int maxZ = (int) Math.floor(dc.z + range) >> 4;
+        final Coverage c = new Coverage(dim, minX, maxX, minZ, maxZ);
+
+        this.accessPoints.put(wap, c);
+
+        if (c.isWide()) {
+            this.wide.computeIfAbsent(dim, $ -> new ArrayList<>()).add(wap);
+            return;
+        }
+
+        final Long2ObjectOpenHashMap<List<IWirelessAccessPoint>> dimChunks = this.chunks.computeIfAbsent(dim, $ -> new Long2ObjectOpenHashMap<>());
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                dimChunks.computeIfAbsent(ChunkPos.asLong(x, z), $ -> new ArrayList<>(2)).add(wap);
+            }
+        }
+    }
+
+    private boolean remove(final IWirelessAccessPoint wap) {
+        final Coverage c = this.accessPoints.remove(wap);
+        if (c == null) {
+            return false;
+        }
+
+        if (c.isWide()) {
+            final List<IWirelessAccessPoint> list = this.wide.get(c.dim);
+            list.remove(wap);
+            if (list.isEmpty()) {
+                this.wide.remove(c.dim);
+            }
+            return true;
+        }
+
+        final Long2ObjectOpenHashMap<List<IWirelessAccessPoint>> dimChunks = this.chunks.get(c.dim);
+        for (int x = c.minX; x <= c.maxX; x++) {
+            for (int z = c.minZ; z <= c.maxZ; z++) {
+                final long key = ChunkPos.asLong(x, z);
+                final List<IWirelessAccessPoint> list = dimChunks.get(key);
+                list.remove(wap);
+                if (list.isEmpty()) {
+                    dimChunks.remove(key);
+                }
+            }
+        }
+
+        if (dimChunks.isEmpty()) {
+            this.chunks.remove(c.dim);
+        }
+
+        return true;
+    }
+
+    private static class Coverage {
+
+        private final int dim;
+        private final int minX;
+        private final int maxX;
+        private final int minZ;
+        private final int maxZ;
+
+        private Coverage(final int dim, final int minX, final int maxX, final int minZ, final int maxZ) {
+            this.dim = dim;
+            this.minX = minX;
+            this.maxX = maxX;
+            this.minZ = minZ;
+            this.maxZ = maxZ;
+        }
+
+        private boolean isWide() {
+            return (long) (this.maxX - this.minX + 1) * (this.maxZ - this.minZ + 1) > MAX_INDEXED_CHUNKS;
+        }
+    }
+}
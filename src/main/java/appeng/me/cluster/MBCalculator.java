@@ -22,25 +22,81 @@ package appeng.me.cluster;
 import appeng.api.util.AEPartLocation;
 import appeng.api.util.WorldCoord;
 import appeng.core.AELog;
+import appeng.hooks.TickHandler;
 import appeng.util.Platform;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 
+import java.util.*;
+
 
 public abstract class MBCalculator {
 
+    /**
+     * calculations requested during the current tick, they are run together once the tick is over.
+     */
+    private static final Map<World, Map<MBCalculator, WorldCoord>> PENDING = new WeakHashMap<>();
+
     private final IAEMultiBlock target;
 
     public MBCalculator(final IAEMultiBlock t) {
         this.target = t;
     }
 
+    /**
+     * Queues a calculation for the next world tick. Loading or editing a structure fires this for a lot of its tiles
+     * at once, but a single calculation per cluster is enough.
+     */
     public void calculateMultiblock(final World world, final WorldCoord loc) {
         if (Platform.isClient()) {
             return;
         }
 
+        Map<MBCalculator, WorldCoord> pending = PENDING.get(world);
+
+        if (pending == null) {
+            PENDING.put(world, pending = new LinkedHashMap<>());
+            TickHandler.INSTANCE.addCallable(world, MBCalculator::calculatePending);
+        }
+
+        pending.put(this, loc.copy());
+    }
+
+    private static Object calculatePending(final World world) {
+        final Map<MBCalculator, WorldCoord> pending = PENDING.remove(world);
+
+        if (pending == null) {
+            return null;
+        }
+
+        // the boundary check of one calculation already covers every other tile of the same cluster.
+        final Set<IAECluster> validated = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        for (final Map.Entry<MBCalculator, WorldCoord> entry : pending.entrySet()) {
+            final MBCalculator calc = entry.getKey();
+
+            if (calc.target instanceof TileEntity && ((TileEntity) calc.target).isInvalid()) {
+                continue;
+            }
+
+            final IAECluster current = calc.target.getCluster();
+            if (current != null && validated.contains(current)) {
+                continue;
+            }
+
+            calc.calculateNow(world, entry.getValue());
+
+            final IAECluster result = calc.target.getCluster();
+            if (result != null) {
+                validated.add(result);
+            }
+        }
+
+        return null;
+    }
+
+    private void calculateNow(final World world, final WorldCoord loc) {
         try {
             final WorldCoord min = loc.copy();
             final WorldCoord max = loc.copy();
@@ -67,6 +123,15 @@ public abstract class MBCalculator {
 
             if (this.checkMultiblockScale(min, max)) {
                 if (this.verifyUnownedRegion(world, min, max)) {
+                    final IAECluster existing = this.target.getCluster();
+
+                    // same bounds as the cluster we are already part of, its inside has not changed since breaking
+                    // any of its blocks destroys it, so only the boundary needed checking.
+                    if (existing != null && this.isClusterIntact(existing, min, max)) {
+                        existing.updateStatus(false);
+                        return;
+                    }
+
                     IAECluster c = this.createCluster(world, min, max);
 
                     try {
@@ -133,6 +198,18 @@ public abstract class MBCalculator {
      */
     public abstract IAECluster createCluster(World w, WorldCoord min, WorldCoord max);
 
+    /**
+     * check if an existing cluster still covers exactly this region and can be kept as is.
+     *
+     * @param cluster existing cluster of the target
+     * @param min     min world coord
+     * @param max     max world coord
+     * @return true if the cluster can be reused without verifying its internal structure again
+     */
+    protected boolean isClusterIntact(final IAECluster cluster, final WorldCoord min, final WorldCoord max) {
+        return false;
+    }
+
     public abstract boolean verifyInternalStructure(World world, WorldCoord min, WorldCoord max);
 
     /**
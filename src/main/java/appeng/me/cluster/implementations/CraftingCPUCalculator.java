@@ -63,6 +63,16 @@ public class CraftingCPUCalculator extends MBCalculator {
         return new CraftingCPUCluster(min, max);
     }
 
+    @Override
+    protected boolean isClusterIntact(final IAECluster cluster, final WorldCoord min, final WorldCoord max) {
+        if (cluster instanceof CraftingCPUCluster) {
+            final CraftingCPUCluster c = (CraftingCPUCluster) cluster;
+            return !c.isDestroyed() && c.getMin().equals(min) && c.getMax().equals(max);
+        }
+
+        return false;
+    }
+
     @Override
     public boolean verifyInternalStructure(final World w, final WorldCoord min, final WorldCoord max) {
         boolean storage = false;
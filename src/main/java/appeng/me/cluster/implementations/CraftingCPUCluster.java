@@ -57,8 +57,11 @@ import appeng.util.Platform;
 import appeng.util.item.AEItemStack;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.inventory.InventoryCrafting;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
@@ -84,6 +87,16 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
     private final List<TileCraftingMonitorTile> status = new ArrayList<>();
     private final HashMap<IMEMonitorHandlerReceiver<IAEItemStack>, Object> listeners = new HashMap<>();
     private final Map<ICraftingPatternDetails, Queue<ICraftingMedium>> visitedMediums = new HashMap<>();
+    /**
+     * tasks that could not start with the current inventory, they are skipped until one of their inputs arrives.
+     */
+    private final Set<ICraftingPatternDetails> starvedTasks = new HashSet<>();
+    private final Reference2ObjectMap<Item, Set<ICraftingPatternDetails>> starvedByInput = new Reference2ObjectOpenHashMap<>();
+    /**
+     * running totals of the outputs of all scheduled and of the starved tasks, so status screens don't scan the tasks.
+     */
+    private final IItemList<IAEItemStack> pendingItems = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList();
+    private final IItemList<IAEItemStack> starvedItems = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class).createList();
     private ICraftingLink myLastLink;
     private String myName = "";
     private boolean isDestroyed = false;
@@ -121,6 +134,14 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
         return this.isDestroyed;
     }
 
+    public WorldCoord getMin() {
+        return this.min;
+    }
+
+    public WorldCoord getMax() {
+        return this.max;
+    }
+
     public ICraftingLink getLastCraftingLink() {
         return this.myLastLink;
     }
@@ -281,6 +302,7 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
                     }
 
                     // 2000
+                    this.wakeStarvedTasks(what);
                     return this.inventory.injectItems(what, type, src);
                 }
 
@@ -311,6 +333,7 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
                     return leftover; // ignore it.
                 }
 
+                this.wakeStarvedTasks(insert);
                 this.inventory.injectItems(insert, type, src);
                 this.markDirty();
 
@@ -385,6 +408,7 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
         this.lastTime = 0;
         this.elapsedTime = 0;
         this.isComplete = true;
+        this.clearStarvedTasks();
 
         notifyRequester(false);
         this.requestingPlayerUUID = null;
@@ -520,6 +544,95 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
         return true;
     }
 
+    private void markStarved(final ICraftingPatternDetails details) {
+        if (!this.starvedTasks.add(details)) {
+            return;
+        }
+
+        this.addTaskOutputs(this.starvedItems, details, this.getTaskProgress(details));
+
+        for (final IAEItemStack input : details.getCondensedInputs()) {
+            this.starvedByInput.computeIfAbsent(input.getItem(), k -> new HashSet<>()).add(details);
+        }
+
+        if (details.canSubstitute()) {
+            final IAEItemStack[] inputs = details.getInputs();
+            for (int x = 0; x < inputs.length; x++) {
+                for (final IAEItemStack substitute : details.getSubstituteInputs(x)) {
+                    this.starvedByInput.computeIfAbsent(substitute.getItem(), k -> new HashSet<>()).add(details);
+                }
+            }
+        }
+
+        this.postTaskOutputs(details);
+    }
+
+    private void wakeStarvedTasks(final IAEItemStack arrived) {
+        if (this.starvedTasks.isEmpty()) {
+            return;
+        }
+
+        final Set<ICraftingPatternDetails> waiting = this.starvedByInput.remove(arrived.getItem());
+
+        if (waiting != null) {
+            for (final ICraftingPatternDetails details : waiting) {
+                if (this.starvedTasks.remove(details)) {
+                    this.addTaskOutputs(this.starvedItems, details, -this.getTaskProgress(details));
+                    this.postTaskOutputs(details);
+                }
+            }
+        }
+    }
+
+    private void clearStarvedTasks() {
+        this.starvedTasks.clear();
+        this.starvedByInput.clear();
+        this.starvedItems.resetStatus();
+    }
+
+    private void clearTasks() {
+        this.tasks.clear();
+        this.pendingItems.resetStatus();
+    }
+
+    private void removeTask(final ICraftingPatternDetails details, final TaskProgress tp) {
+        this.addTaskProgress(details, tp, -tp.value);
+        this.starvedTasks.remove(details);
+    }
+
+    private void addTaskProgress(final ICraftingPatternDetails details, final TaskProgress tp, final long crafts) {
+        tp.value += crafts;
+        this.addTaskOutputs(this.pendingItems, details, crafts);
+
+        if (this.starvedTasks.contains(details)) {
+            this.addTaskOutputs(this.starvedItems, details, crafts);
+        }
+    }
+
+    private long getTaskProgress(final ICraftingPatternDetails details) {
+        final TaskProgress tp = this.tasks.get(details);
+        return tp == null ? 0 : tp.value;
+    }
+
+    private void addTaskOutputs(final IItemList<IAEItemStack> list, final ICraftingPatternDetails details, final long crafts) {
+        if (crafts == 0) {
+            return;
+        }
+
+        for (final IAEItemStack out : details.getCondensedOutputs()) {
+            list.add(out.copy().setStackSize(out.getStackSize() * crafts));
+        }
+    }
+
+    /**
+     * lets open status screens refresh the outputs of a task after its starved state changed.
+     */
+    private void postTaskOutputs(final ICraftingPatternDetails details) {
+        for (final IAEItemStack out : details.getCondensedOutputs()) {
+            this.postChange(out, this.machineSrc);
+        }
+    }
+
     public void cancel() {
         if (this.myLastLink != null) {
             this.myLastLink.cancel();
@@ -533,7 +646,8 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
 
         this.isComplete = true;
         this.myLastLink = null;
-        this.tasks.clear();
+        this.clearTasks();
+        this.clearStarvedTasks();
 
         // final ImmutableSet<IAEItemStack> items = ImmutableSet.copyOf( this.waitingFor );
         final List<IAEItemStack> items = new ArrayList<>(this.waitingFor.size());
@@ -605,13 +719,21 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
             final Entry<ICraftingPatternDetails, TaskProgress> e = i.next();
 
             if (e.getValue().value <= 0) {
+                this.removeTask(e.getKey(), e.getValue());
                 i.remove();
                 continue;
             }
 
             final ICraftingPatternDetails details = e.getKey();
 
-            if (this.canCraft(details, details.getCondensedInputs())) {
+            if (this.starvedTasks.contains(details)) {
+                // none of its inputs arrived since the last check
+                continue;
+            }
+
+            if (!this.canCraft(details, details.getCondensedInputs())) {
+                this.markStarved(details);
+            } else {
                 InventoryCrafting ic = null;
 
                 if (!visitedMediums.containsKey(details) || visitedMediums.get(details).isEmpty()) {
@@ -715,7 +837,9 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
                                 for (int x = 0; x < ic.getSizeInventory(); x++) {
                                     final ItemStack is = ic.getStackInSlot(x);
                                     if (!is.isEmpty()) {
-                                        this.inventory.injectItems(AEItemStack.fromItemStack(is), Actionable.MODULATE, this.machineSrc);
+                                        final IAEItemStack back = AEItemStack.fromItemStack(is);
+                                        this.wakeStarvedTasks(back);
+                                        this.inventory.injectItems(back, Actionable.MODULATE, this.machineSrc);
                                     }
                                 }
                                 ic = null;
@@ -748,7 +872,7 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
                             ic = null; // hand off complete!
                             this.markDirty();
 
-                            e.getValue().value--;
+                            this.addTaskProgress(details, e.getValue(), -1);
                             if (e.getValue().value <= 0) {
                                 continue;
                             }
@@ -765,7 +889,9 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
                     for (int x = 0; x < ic.getSizeInventory(); x++) {
                         final ItemStack is = ic.getStackInSlot(x);
                         if (!is.isEmpty()) {
-                            this.inventory.injectItems(AEItemStack.fromItemStack(is), Actionable.MODULATE, this.machineSrc);
+                            final IAEItemStack back = AEItemStack.fromItemStack(is);
+                            this.wakeStarvedTasks(back);
+                            this.inventory.injectItems(back, Actionable.MODULATE, this.machineSrc);
                         }
                     }
                 }
@@ -809,7 +935,7 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
             return null;
         }
 
-        if (!(job instanceof CraftingJob)) {
+        if (!(job instanceof CraftingJob) || ((CraftingJob) job).getPlan() == null) {
             return null;
         }
 
@@ -823,7 +949,8 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
 
         try {
             this.waitingFor.resetStatus();
-            ((CraftingJob) job).getTree().setJob(ci, this, src);
+            this.clearStarvedTasks();
+            ((CraftingJob) job).getPlan().submit(ci, this, src);
             if (ci.commit(src)) {
                 this.finalOutput = job.getOutput();
                 this.waiting = false;
@@ -862,11 +989,11 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
 
                 return whatLink;
             } else {
-                this.tasks.clear();
+                this.clearTasks();
                 this.inventory.getItemList().resetStatus();
             }
         } catch (final CraftBranchFailure e) {
-            this.tasks.clear();
+            this.clearTasks();
             this.inventory.getItemList().resetStatus();
             // AELog.error( e );
         }
@@ -877,7 +1004,14 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
     @Override
     public boolean isBusy() {
 
-        this.tasks.entrySet().removeIf(taskProgressEntry -> taskProgressEntry.getValue().value <= 0);
+        final Iterator<Entry<ICraftingPatternDetails, TaskProgress>> i = this.tasks.entrySet().iterator();
+        while (i.hasNext()) {
+            final Entry<ICraftingPatternDetails, TaskProgress> e = i.next();
+            if (e.getValue().value <= 0) {
+                this.removeTask(e.getKey(), e.getValue());
+                i.remove();
+            }
+        }
 
         if (!this.waitingFor.isEmpty() || !this.tasks.isEmpty()) {
             this.updateElapsedTime();
@@ -956,12 +1090,8 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
                 }
                 break;
             case PENDING:
-                for (final Entry<ICraftingPatternDetails, TaskProgress> t : this.tasks.entrySet()) {
-                    for (IAEItemStack ais : t.getKey().getCondensedOutputs()) {
-                        ais = ais.copy();
-                        ais.setStackSize(ais.getStackSize() * t.getValue().value);
-                        list.add(ais);
-                    }
+                for (final IAEItemStack ais : this.pendingItems) {
+                    list.add(ais);
                 }
                 break;
             case STORAGE:
@@ -975,18 +1105,15 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
                     list.add(ais);
                 }
 
-                for (final Entry<ICraftingPatternDetails, TaskProgress> t : this.tasks.entrySet()) {
-                    for (IAEItemStack ais : t.getKey().getCondensedOutputs()) {
-                        ais = ais.copy();
-                        ais.setStackSize(ais.getStackSize() * t.getValue().value);
-                        list.add(ais);
-                    }
+                for (final IAEItemStack ais : this.pendingItems) {
+                    list.add(ais);
                 }
                 break;
         }
     }
 
     public void addStorage(final IAEItemStack extractItems) {
+        this.wakeStarvedTasks(extractItems);
         this.inventory.injectItems(extractItems, Actionable.MODULATE, null);
     }
 
@@ -1002,7 +1129,7 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
             this.tasks.put(details, i = new TaskProgress());
         }
 
-        i.value += crafts;
+        this.addTaskProgress(details, i, crafts);
     }
 
     public IAEItemStack getItemStack(final IAEItemStack what, final CraftingItemList storage2) {
@@ -1016,18 +1143,7 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
                 is = this.waitingFor.findPrecise(what);
                 break;
             case PENDING:
-
-                is = what.copy();
-                is.setStackSize(0);
-
-                for (final Entry<ICraftingPatternDetails, TaskProgress> t : this.tasks.entrySet()) {
-                    for (final IAEItemStack ais : t.getKey().getCondensedOutputs()) {
-                        if (ais.isSameType(is)) {
-                            is.setStackSize(is.getStackSize() + ais.getStackSize() * t.getValue().value);
-                        }
-                    }
-                }
-
+                is = this.pendingItems.findPrecise(what);
                 break;
             default:
             case ALL:
@@ -1043,6 +1159,19 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
         return is;
     }
 
+    /**
+     * @return how many of the scheduled items belong to tasks that are waiting for their inputs
+     */
+    public IAEItemStack getStarvedItemStack(final IAEItemStack what) {
+        final IAEItemStack is = this.starvedItems.findPrecise(what);
+
+        if (is != null) {
+            return is.copy();
+        }
+
+        return what.copy().setStackSize(0);
+    }
+
     public void writeToNBT(final NBTTagCompound data) {
         data.setTag("finalOutput", this.writeItem(this.finalOutput));
         data.setTag("inventory", this.writeList(this.inventory.getItemList()));
@@ -1132,8 +1261,8 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
                 final ICraftingPatternDetails details = cpi.getPatternForItem(pattern.createItemStack(), this.getWorld());
                 if (details != null) {
                     final TaskProgress tp = new TaskProgress();
-                    tp.value = item.getLong("craftingProgress");
                     this.tasks.put(details, tp);
+                    this.addTaskProgress(details, tp, item.getLong("craftingProgress"));
                 }
             }
         }
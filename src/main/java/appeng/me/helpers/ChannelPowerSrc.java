@@ -42,4 +42,8 @@ public class ChannelPowerSrc implements IEnergySource {
         }
         return 0.0;
     }
+
+    public IEnergySource getRealSource() {
+        return this.realSrc;
+    }
 }
@@ -109,6 +109,11 @@ public class MEMonitorHandler<T extends IAEStack<T>> implements IMEMonitor<T> {
         return this.getHandler().extractItems(request, mode, src);
     }
 
+    @Override
+    public IItemList<T> extractItems(final IItemList<T> requests, final Actionable mode, final IActionSource src) {
+        return this.getHandler().extractItems(requests, mode, src);
+    }
+
     @Override
     public IStorageChannel<T> getChannel() {
         return this.getHandler().getChannel();
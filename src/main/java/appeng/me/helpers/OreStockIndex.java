@@ -0,0 +1,144 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+
+package appeng.me.helpers;
+
+
+import appeng.api.networking.security.IActionSource;
+import appeng.api.networking.storage.IBaseMonitor;
+import appeng.api.storage.IMEMonitor;
+import appeng.api.storage.IMEMonitorHandlerReceiver;
+import appeng.api.storage.data.IAEItemStack;
+import appeng.api.storage.data.IItemList;
+import appeng.util.item.AEItemStack;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ObjectSet;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+
+/**
+ * Ore dictionary index of the items a network monitor has stored or can craft. It is built once from the storage list,
+ * kept up to date by the monitor's change events and rebuilt when the monitor refreshes its whole list.
+ */
+public final class OreStockIndex implements IMEMonitorHandlerReceiver<IAEItemStack> {
+
+    private static final Map<IMEMonitor<IAEItemStack>, OreStockIndex> INDICES = new WeakHashMap<>();
+
+    private final Int2ObjectMap<ObjectSet<IAEItemStack>> byOre = new Int2ObjectOpenHashMap<>();
+    private boolean built = false;
+    private int craftablesVersion;
+
+    private OreStockIndex() {
+    }
+
+    /**
+     * @param craftablesVersion rebuilds the index when it differs from the last call, as craftables are not posted as
+     *                          changes
+     */
+    public static OreStockIndex get(final IMEMonitor<IAEItemStack> monitor, final int craftablesVersion) {
+        OreStockIndex index = INDICES.get(monitor);
+        if (index == null) {
+            index = new OreStockIndex();
+            monitor.addListener(index, null);
+            INDICES.put(monitor, index);
+        }
+
+        if (!index.built || index.craftablesVersion != craftablesVersion) {
+            index.rebuild(monitor.getStorageList());
+            index.craftablesVersion = craftablesVersion;
+        }
+
+        return index;
+    }
+
+    /**
+     * @return the stored entries of the ore that are in stock or craftable, entries that are neither are dropped
+     */
+    public List<IAEItemStack> getStock(final IItemList<IAEItemStack> storageList, final int ore) {
+        final List<IAEItemStack> stock = new ArrayList<>();
+        final ObjectSet<IAEItemStack> keys = this.byOre.get(ore);
+        if (keys == null) {
+            return stock;
+        }
+
+        final Iterator<IAEItemStack> it = keys.iterator();
+        while (it.hasNext()) {
+            final IAEItemStack stored = storageList.findPrecise(it.next());
+            if (stored == null || (stored.getStackSize() <= 0 && !stored.isCraftable())) {
+                it.remove();
+            } else {
+                stock.add(stored);
+            }
+        }
+
+        return stock;
+    }
+
+    private void rebuild(final IItemList<IAEItemStack> storageList) {
+        this.byOre.clear();
+        for (final IAEItemStack is : storageList) {
+            this.add(is);
+        }
+        this.built = true;
+    }
+
+    private void add(final IAEItemStack is) {
+        if (!(is instanceof AEItemStack)) {
+            return;
+        }
+
+        ((AEItemStack) is).getOre().ifPresent(ore -> {
+            for (final Integer id : ore.getOres()) {
+                ObjectSet<IAEItemStack> keys = this.byOre.get((int) id);
+                if (keys == null) {
+                    this.byOre.put((int) id, keys = new ObjectOpenHashSet<>());
+                }
+                if (!keys.contains(is)) {
+                    keys.add(is.copy());
+                }
+            }
+        });
+    }
+
+    @Override
+    public boolean isValid(final Object verificationToken) {
+        return true;
+    }
+
+    @Override
+    public void postChange(final IBaseMonitor<IAEItemStack> monitor, final Iterable<IAEItemStack> change, final IActionSource actionSource) {
+        if (this.built) {
+            for (final IAEItemStack is : change) {
+                this.add(is);
+            }
+        }
+    }
+
+    @Override
+    public void onListUpdate() {
+        this.built = false;
+    }
+}
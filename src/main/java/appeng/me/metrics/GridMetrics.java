@@ -0,0 +1,202 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.metrics;
+
+
+import appeng.api.AEApi;
+import appeng.api.networking.IGridNode;
+import appeng.api.networking.crafting.ICraftingGrid;
+import appeng.api.networking.energy.IEnergyGrid;
+import appeng.api.networking.pathing.IPathingGrid;
+import appeng.api.networking.storage.IStorageGrid;
+import appeng.api.storage.IStorageChannel;
+import appeng.api.storage.channels.IFluidStorageChannel;
+import appeng.api.storage.channels.IItemStorageChannel;
+import appeng.api.util.DimensionalCoord;
+import appeng.me.Grid;
+import appeng.me.cache.CraftingGridCache;
+import appeng.me.cache.EnergyGridCache;
+import appeng.me.cache.GridStorageCache;
+import appeng.me.cache.NetworkMonitor;
+import appeng.me.cache.PathGridCache;
+
+
+/**
+ * Point in time view of one grid, read from its caches.
+ */
+public final class GridMetrics {
+
+    private final String id;
+    private final String location;
+    private final int nodes;
+    private final int channels;
+    private final ChannelMetrics items;
+    private final ChannelMetrics fluids;
+    private final long injectOps;
+    private final long extractOps;
+    private final double injectRate;
+    private final double extractRate;
+    private final double avgPowerUsage;
+    private final double storedPower;
+    private final double maxStoredPower;
+    private final int cpus;
+    private final int busyCpus;
+    private final int pendingCalculations;
+
+    private GridMetrics(final Grid g) {
+        final PathGridCache path = g.getCache(IPathingGrid.class);
+        final GridStorageCache storage = g.getCache(IStorageGrid.class);
+        final EnergyGridCache energy = g.getCache(IEnergyGrid.class);
+        final CraftingGridCache crafting = g.getCache(ICraftingGrid.class);
+
+        this.id = Integer.toHexString(System.identityHashCode(g));
+        this.location = locationOf(g);
+        this.nodes = g.getNodes().size();
+        this.channels = path.getChannelsInUse();
+
+        this.items = new ChannelMetrics(storage, AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class));
+        this.fluids = new ChannelMetrics(storage, AEApi.instance().storage().getStorageChannel(IFluidStorageChannel.class));
+
+        this.injectOps = storage.getInjectOps().getCount();
+        this.extractOps = storage.getExtractOps().getCount();
+        this.injectRate = storage.getInjectOps().getRate();
+        this.extractRate = storage.getExtractOps().getRate();
+
+        this.avgPowerUsage = energy.getAvgPowerUsage();
+        this.storedPower = energy.getStoredPower();
+        this.maxStoredPower = energy.getMaxStoredPower();
+
+        final int[] usage = crafting.getCpuUsage();
+        this.cpus = usage[0];
+        this.busyCpus = usage[1];
+        this.pendingCalculations = crafting.getPendingCalculations();
+    }
+
+    public static GridMetrics of(final Grid g) {
+        return new GridMetrics(g);
+    }
+
+    private static String locationOf(final Grid g) {
+        final IGridNode pivot = g.getPivot();
+        if (pivot == null) {
+            return "unknown";
+        }
+
+        final DimensionalCoord dc = pivot.getGridBlock().getLocation();
+        return dc.getWorld().provider.getDimension() + ":" + dc.x + "," + dc.y + "," + dc.z;
+    }
+
+    public String getId() {
+        return this.id;
+    }
+
+    public String getLocation() {
+        return this.location;
+    }
+
+    public int getNodes() {
+        return this.nodes;
+    }
+
+    public int getChannels() {
+        return this.channels;
+    }
+
+    public ChannelMetrics getItems() {
+        return this.items;
+    }
+
+    public ChannelMetrics getFluids() {
+        return this.fluids;
+    }
+
+    public long getInjectOps() {
+        return this.injectOps;
+    }
+
+    public long getExtractOps() {
+        return this.extractOps;
+    }
+
+    public double getInjectRate() {
+        return this.injectRate;
+    }
+
+    public double getExtractRate() {
+        return this.extractRate;
+    }
+
+    public double getAvgPowerUsage() {
+        return this.avgPowerUsage;
+    }
+
+    public double getStoredPower() {
+        return this.storedPower;
+    }
+
+    public double getMaxStoredPower() {
+        return this.maxStoredPower;
+    }
+
+    public int getCpus() {
+        return this.cpus;
+    }
+
+    public int getBusyCpus() {
+        return this.busyCpus;
+    }
+
+    public int getPendingCalculations() {
+        return this.pendingCalculations;
+    }
+
+    public static final class ChannelMetrics {
+
+        private final long types;
+        private final long count;
+        private final long usedBytes;
+        private final long totalBytes;
+
+        private ChannelMetrics(final GridStorageCache storage, final IStorageChannel<?> channel) {
+            final NetworkMonitor<?> monitor = (NetworkMonitor<?>) storage.getInventory((IStorageChannel) channel);
+            final long[] bytes = storage.getCellBytes(channel);
+
+            this.types = monitor.getStorageList().size();
+            this.count = monitor.getGridCurrentCount();
+            this.usedBytes = bytes[0];
+            this.totalBytes = bytes[1];
+        }
+
+        public long getTypes() {
+            return this.types;
+        }
+
+        public long getCount() {
+            return this.count;
+        }
+
+        public long getUsedBytes() {
+            return this.usedBytes;
+        }
+
+        public long getTotalBytes() {
+            return this.totalBytes;
+        }
+    }
+}
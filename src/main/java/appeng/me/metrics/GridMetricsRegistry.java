@@ -0,0 +1,239 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.metrics;
+
+
+import appeng.core.AEConfig;
+import appeng.core.AELog;
+import appeng.core.worlddata.WorldData;
+import appeng.hooks.TickHandler;
+import appeng.me.Grid;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import javax.annotation.Nullable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.ToDoubleFunction;
+
+
+/**
+ * Collects {@link GridMetrics} of all grids on the server, for /ae2 Stats and the optional periodic dump into the AE2
+ * directory of the world.
+ */
+public final class GridMetricsRegistry {
+
+    public static final GridMetricsRegistry INSTANCE = new GridMetricsRegistry();
+
+    private static final String PROMETHEUS_FILE = "metrics.prom";
+    private static final String JSON_FILE = "metrics.json";
+
+    private static final ExecutorService WRITER = Executors.newSingleThreadExecutor(r -> {
+        final Thread t = new Thread(r, "AE Metrics Writer");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final AtomicBoolean writing = new AtomicBoolean();
+    private int ticks = 0;
+
+    private GridMetricsRegistry() {
+    }
+
+    /**
+     * @return metrics of all grids, the largest first
+     */
+    public List<GridMetrics> collect() {
+        final List<GridMetrics> out = new ArrayList<>();
+
+        for (final Grid g : TickHandler.INSTANCE.getGridList()) {
+            if (!g.isEmpty()) {
+                out.add(GridMetrics.of(g));
+            }
+        }
+
+        out.sort(Comparator.comparingInt(GridMetrics::getNodes).reversed());
+        return out;
+    }
+
+    public void onServerTick() {
+        final int interval = AEConfig.instance().getMetricsDumpInterval();
+        if (interval <= 0) {
+            return;
+        }
+
+        this.ticks++;
+        if (this.ticks >= interval * 20) {
+            this.ticks = 0;
+            this.dump();
+        }
+    }
+
+    /**
+     * Takes the snapshot on the calling (server) thread, formatting and writing the file happens on a writer thread. A
+     * dump requested while the previous one is still being written is skipped.
+     *
+     * @return the written file once the writer is done, or null if the dump was skipped
+     */
+    @Nullable
+    public CompletableFuture<File> dump() {
+        if (!this.writing.compareAndSet(false, true)) {
+            return null;
+        }
+
+        final boolean json = "json".equalsIgnoreCase(AEConfig.instance().getMetricsDumpFormat());
+        final List<GridMetrics> metrics = this.collect();
+        final File target = new File(WorldData.instance().directory(), json ? JSON_FILE : PROMETHEUS_FILE);
+        final File temp = new File(target.getPath() + ".tmp");
+        final CompletableFuture<File> result = new CompletableFuture<>();
+
+        WRITER.execute(() -> {
+            try {
+                Files.write(temp.toPath(), (json ? toJson(metrics) : toPrometheus(metrics)).getBytes(StandardCharsets.UTF_8));
+                Files.move(temp.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                result.complete(target);
+            } catch (final IOException e) {
+                AELog.warn(e, "Unable to write grid metrics to " + target);
+                result.completeExceptionally(e);
+            } finally {
+                this.writing.set(false);
+            }
+        });
+
+        return result;
+    }
+
+    public static String toPrometheus(final List<GridMetrics> metrics) {
+        final StringBuilder sb = new StringBuilder();
+
+        gauge(sb, metrics, "ae2_grid_nodes", "Nodes in the grid.", GridMetrics::getNodes);
+        gauge(sb, metrics, "ae2_grid_channels", "Channels in use.", GridMetrics::getChannels);
+        storage(sb, metrics, "ae2_grid_stored_types", "Distinct stored types.", GridMetrics.ChannelMetrics::getTypes);
+        storage(sb, metrics, "ae2_grid_stored_count", "Stored amount.", GridMetrics.ChannelMetrics::getCount);
+        storage(sb, metrics, "ae2_grid_used_bytes", "Used bytes of the cells.", GridMetrics.ChannelMetrics::getUsedBytes);
+        storage(sb, metrics, "ae2_grid_total_bytes", "Total bytes of the cells.", GridMetrics.ChannelMetrics::getTotalBytes);
+        family(sb, metrics, "ae2_grid_inject_ops_total", "Inject operations.", "counter", GridMetrics::getInjectOps);
+        family(sb, metrics, "ae2_grid_extract_ops_total", "Extract operations.", "counter", GridMetrics::getExtractOps);
+        gauge(sb, metrics, "ae2_grid_inject_ops_per_second", "Inject operations per second.", GridMetrics::getInjectRate);
+        gauge(sb, metrics, "ae2_grid_extract_ops_per_second", "Extract operations per second.", GridMetrics::getExtractRate);
+        gauge(sb, metrics, "ae2_grid_power_usage", "Average power drain in AE per tick.", GridMetrics::getAvgPowerUsage);
+        gauge(sb, metrics, "ae2_grid_power_stored", "Stored power in AE.", GridMetrics::getStoredPower);
+        gauge(sb, metrics, "ae2_grid_power_capacity", "Power capacity in AE.", GridMetrics::getMaxStoredPower);
+        gauge(sb, metrics, "ae2_grid_crafting_cpus", "Usable crafting CPUs.", GridMetrics::getCpus);
+        gauge(sb, metrics, "ae2_grid_crafting_cpus_busy", "Busy crafting CPUs.", GridMetrics::getBusyCpus);
+        gauge(sb, metrics, "ae2_grid_crafting_calculations", "Queued or running crafting calculations.", GridMetrics::getPendingCalculations);
+
+        return sb.toString();
+    }
+
+    public static String toJson(final List<GridMetrics> metrics) {
+        final JsonArray grids = new JsonArray();
+
+        for (final GridMetrics m : metrics) {
+            final JsonObject o = new JsonObject();
+            o.addProperty("grid", m.getId());
+            o.addProperty("location", m.getLocation());
+            o.addProperty("nodes", m.getNodes());
+            o.addProperty("channels", m.getChannels());
+            o.add("items", toJson(m.getItems()));
+            o.add("fluids", toJson(m.getFluids()));
+            o.addProperty("injectOps", m.getInjectOps());
+            o.addProperty("extractOps", m.getExtractOps());
+            o.addProperty("injectOpsPerSecond", m.getInjectRate());
+            o.addProperty("extractOpsPerSecond", m.getExtractRate());
+            o.addProperty("powerUsage", m.getAvgPowerUsage());
+            o.addProperty("powerStored", m.getStoredPower());
+            o.addProperty("powerCapacity", m.getMaxStoredPower());
+            o.addProperty("craftingCpus", m.getCpus());
+            o.addProperty("craftingCpusBusy", m.getBusyCpus());
+            o.addProperty("craftingCalculations", m.getPendingCalculations());
+            grids.add(o);
+        }
+
+        final JsonObject root = new JsonObject();
+        root.addProperty("time", System.currentTimeMillis());
+        root.add("grids", grids);
+
+        return new GsonBuilder().setPrettyPrinting().create().toJson(root);
+    }
+
+    private static JsonObject toJson(final GridMetrics.ChannelMetrics m) {
+        final JsonObject o = new JsonObject();
+        o.addProperty("types", m.getTypes());
+        o.addProperty("count", m.getCount());
+        o.addProperty("usedBytes", m.getUsedBytes());
+        o.addProperty("totalBytes", m.getTotalBytes());
+        return o;
+    }
+
+    private static void gauge(final StringBuilder sb, final List<GridMetrics> metrics, final String name, final String help, final ToDoubleFunction<GridMetrics> value) {
+        family(sb, metrics, name, help, "gauge", value);
+    }
+
+    private static void family(final StringBuilder sb, final List<GridMetrics> metrics, final String name, final String help, final String type, final ToDoubleFunction<GridMetrics> value) {
+        header(sb, name, help, type);
+
+        for (final GridMetrics m : metrics) {
+            sample(sb, name, m, null, value.applyAsDouble(m));
+        }
+    }
+
+    private static void storage(final StringBuilder sb, final List<GridMetrics> metrics, final String name, final String help, final ToDoubleFunction<GridMetrics.ChannelMetrics> value) {
+        header(sb, name, help, "gauge");
+
+        for (final GridMetrics m : metrics) {
+            sample(sb, name, m, "item", value.applyAsDouble(m.getItems()));
+            sample(sb, name, m, "fluid", value.applyAsDouble(m.getFluids()));
+        }
+    }
+
+    private static void header(final StringBuilder sb, final String name, final String help, final String type) {
+        sb.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        sb.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(final StringBuilder sb, final String name, final GridMetrics m, final String channel, final double value) {
+        sb.append(name).append("{grid=\"").append(m.getId()).append("\",location=\"").append(m.getLocation()).append('"');
+
+        if (channel != null) {
+            sb.append(",channel=\"").append(channel).append('"');
+        }
+
+        sb.append("} ");
+
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            sb.append((long) value);
+        } else {
+            sb.append(value);
+        }
+
+        sb.append('\n');
+    }
+}
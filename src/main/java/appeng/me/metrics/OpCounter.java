@@ -0,0 +1,65 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.metrics;
+
+
+/**
+ * Plain counter for hot paths, with a per second rate that the owning grid cache refreshes from its tick.
+ * <p>
+ * Only meant to be touched from the server thread, so there is no synchronisation.
+ */
+public final class OpCounter {
+
+    private static final long SAMPLE_NANOS = 1000000000L;
+
+    private long count;
+    private long sampledCount;
+    private long sampledAt = System.nanoTime();
+    private double rate;
+
+    public void inc() {
+        this.count++;
+    }
+
+    public void add(final long amount) {
+        this.count += amount;
+    }
+
+    /**
+     * Updates the rate about once a second.
+     */
+    public void sample() {
+        final long now = System.nanoTime();
+        final long elapsed = now - this.sampledAt;
+
+        if (elapsed >= SAMPLE_NANOS) {
+            this.rate = (this.count - this.sampledCount) * (double) SAMPLE_NANOS / elapsed;
+            this.sampledCount = this.count;
+            this.sampledAt = now;
+        }
+    }
+
+    public long getCount() {
+        return this.count;
+    }
+
+    public double getRate() {
+        return this.rate;
+    }
+}
@@ -10,6 +10,7 @@ import appeng.api.storage.ISaveProvider;
 import appeng.api.storage.IStorageChannel;
 import appeng.api.storage.data.IAEItemStack;
 import appeng.api.storage.data.IAEStack;
+import appeng.api.storage.data.IItemList;
 import appeng.core.AEConfig;
 import appeng.core.AELog;
 import appeng.util.item.AEStack;
@@ -199,6 +200,37 @@ public class BasicCellInventory<T extends IAEStack<T>> extends AbstractCellInven
         return Results;
     }
 
+    @Override
+    public IItemList<T> extractItems(final IItemList<T> requests, final Actionable mode, final IActionSource src) {
+        final IItemList<T> extracted = this.getChannel().createList();
+        boolean changed = false;
+
+        for (final T request : requests) {
+            final T l = this.getCellItems().findPrecise(request);
+            if (l == null) {
+                continue;
+            }
+
+            final long size = Math.min(Math.min(Integer.MAX_VALUE, request.getStackSize()), l.getStackSize());
+            if (size <= 0) {
+                continue;
+            }
+
+            extracted.add(l.copy().setStackSize(size));
+            if (mode == Actionable.MODULATE) {
+                l.setStackSize(l.getStackSize() - size);
+                changed = true;
+            }
+        }
+
+        // one save for the whole batch instead of one per stack
+        if (changed) {
+            this.saveChanges();
+        }
+
+        return extracted;
+    }
+
     @Override
     public IStorageChannel<T> getChannel() {
         return this.channel;
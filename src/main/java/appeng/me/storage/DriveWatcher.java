@@ -24,13 +24,16 @@ import appeng.api.networking.security.IActionSource;
 import appeng.api.storage.ICellHandler;
 import appeng.api.storage.ICellInventoryHandler;
 import appeng.api.storage.data.IAEStack;
+import appeng.api.storage.data.IItemList;
 import appeng.core.features.registries.cell.CreativeCellHandler;
 import appeng.me.GridAccessException;
 import appeng.me.helpers.MachineSource;
 import appeng.tile.storage.TileDrive;
 import net.minecraft.item.ItemStack;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 
 
 public class DriveWatcher<T extends IAEStack<T>> extends MEInventoryHandler<T> {
@@ -100,6 +103,34 @@ public class DriveWatcher<T extends IAEStack<T>> extends MEInventoryHandler<T> {
         return extractable;
     }
 
+    @Override
+    public IItemList<T> extractItems(final IItemList<T> requests, final Actionable type, final IActionSource src) {
+        final IItemList<T> extracted = super.extractItems(requests, type, src);
+
+        if (type == Actionable.MODULATE && !extracted.isEmpty()) {
+            final int newStatus = this.getStatus();
+
+            if (newStatus != this.oldStatus) {
+                this.drive.blinkCell(this.getSlot());
+                this.oldStatus = newStatus;
+            }
+            if (this.drive.getProxy().isActive() && !(handler instanceof CreativeCellHandler)) {
+                final List<T> changes = new ArrayList<>();
+                for (final T is : extracted) {
+                    changes.add(is.copy().setStackSize(-is.getStackSize()));
+                }
+
+                try {
+                    this.drive.getProxy().getStorage().postAlterationOfStoredItems(this.getChannel(), changes, this.source);
+                } catch (GridAccessException e) {
+                    e.printStackTrace();
+                }
+            }
+        }
+
+        return extracted;
+    }
+
     @Override
     public boolean isSticky() {
         if (this.getInternal() instanceof ICellInventoryHandler<?> cellInventoryHandler) {
@@ -115,6 +115,22 @@ public class MEInventoryHandler<T extends IAEStack<T>> implements IMEInventoryHa
         return this.internal.extractItems(request, type, src);
     }
 
+    @Override
+    public IItemList<T> extractItems(final IItemList<T> requests, final Actionable type, final IActionSource src) {
+        final IItemList<T> allowed = this.getChannel().createList();
+        for (final T request : requests) {
+            if (this.canExtract(request)) {
+                allowed.add(request.copy());
+            }
+        }
+
+        if (allowed.isEmpty()) {
+            return allowed;
+        }
+
+        return this.internal.extractItems(allowed, type, src);
+    }
+
     @Override
     public IItemList<T> getAvailableItems(final IItemList<T> out) {
         if (this.gettingAvailableContent || !this.hasReadAccess) {
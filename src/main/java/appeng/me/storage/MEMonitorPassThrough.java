@@ -48,29 +48,46 @@ public class MEMonitorPassThrough<T extends IAEStack<T>> extends MEPassThrough<T
         }
     }
 
+    /**
+     * Swaps the inventory and posts the difference to the listeners. The contents are only read when someone listens
+     * and the inventory actually changed.
+     */
     @Override
     public void setInternal(final IMEInventory<T> i) {
         if (this.monitor != null) {
             this.monitor.removeListener(this);
         }
 
-        this.monitor = null;
-        final IItemList<T> before = this.getInternal() == null ? this.getWrappedChannel().createList() : this.getInternal()
-                .getAvailableItems(new ItemListIgnoreCrafting(this.getWrappedChannel().createList()));
+        // null while MEPassThrough is constructed
+        final boolean hasListeners = this.listeners != null && !this.listeners.isEmpty();
+        final boolean changed = hasListeners && this.getInternal() != i;
+        final IItemList<T> before = changed ? this.readContents() : null;
 
+        this.monitor = null;
         super.setInternal(i);
         if (i instanceof IMEMonitor) {
             this.monitor = (IMEMonitor<T>) i;
         }
 
-        final IItemList<T> after = this.getInternal() == null ? this.getWrappedChannel().createList() : this.getInternal()
-                .getAvailableItems(new ItemListIgnoreCrafting(this.getWrappedChannel().createList()));
-
-        if (this.monitor != null && this.listeners.size() > 0) {
+        if (this.monitor != null && hasListeners) {
             this.monitor.addListener(this, this.monitor);
         }
 
-        Platform.postListChanges(before, after, this, this.getChangeSource());
+        if (changed) {
+            Platform.postListChanges(before, this.readContents(), this, this.getChangeSource());
+        }
+    }
+
+    /**
+     * Reads through the inventory, where the loop guard of the network storage stops networks that see each other
+     * through storage buses and interfaces from being counted twice.
+     */
+    private IItemList<T> readContents() {
+        final IItemList<T> out = this.getWrappedChannel().createList();
+        if (this.getInternal() != null) {
+            this.getInternal().getAvailableItems(new ItemListIgnoreCrafting(out));
+        }
+        return out;
     }
 
     @Override
@@ -26,12 +26,12 @@ import appeng.api.networking.IGrid;
 import appeng.api.networking.IGridNode;
 import appeng.api.networking.crafting.ICraftingGrid;
 import appeng.api.networking.security.IActionSource;
-import appeng.api.networking.security.ISecurityGrid;
 import appeng.api.storage.IMEInventoryHandler;
 import appeng.api.storage.IStorageChannel;
 import appeng.api.storage.data.IAEStack;
 import appeng.api.storage.data.IItemList;
 import appeng.me.cache.SecurityCache;
+import appeng.me.metrics.OpCounter;
 
 import java.util.*;
 
@@ -48,11 +48,15 @@ public class NetworkInventoryHandler<T extends IAEStack<T>> implements IMEInvent
     private final NavigableMap<Integer, List<IMEInventoryHandler<T>>> craftingPriorityInventory;
     private final NavigableMap<Integer, List<IMEInventoryHandler<T>>> priorityInventory;
     private final NavigableMap<Integer, List<IMEInventoryHandler<T>>> stickyPriorityInventory;
+    private final OpCounter injectOps;
+    private final OpCounter extractOps;
     private int myPass = 0;
 
-    public NetworkInventoryHandler(final IStorageChannel<T> chan, final SecurityCache security) {
+    public NetworkInventoryHandler(final IStorageChannel<T> chan, final SecurityCache security, final OpCounter injectOps, final OpCounter extractOps) {
         this.myChannel = chan;
         this.security = security;
+        this.injectOps = injectOps;
+        this.extractOps = extractOps;
         this.priorityInventory = new TreeMap<>(PRIORITY_SORTER);
         this.stickyPriorityInventory = new TreeMap<>(PRIORITY_SORTER);
         this.craftingPriorityInventory = new TreeMap<>(PRIORITY_SORTER);
@@ -74,7 +78,21 @@ public class NetworkInventoryHandler<T extends IAEStack<T>> implements IMEInvent
     }
 
     @Override
-    public T injectItems(T input, final Actionable type, final IActionSource src) {
+    public T injectItems(final T input, final Actionable type, final IActionSource src) {
+        if (StorageTraceRecorder.isRecording() && this.getDepth(type).isEmpty()) {
+            final int id = StorageTraceRecorder.INSTANCE.begin(this);
+            final T request = input == null ? null : input.copy();
+            final long start = System.nanoTime();
+            final T notInjected = this.injectNetwork(input, type, src);
+
+            StorageTraceRecorder.INSTANCE.recordInject(id, type, request, notInjected, System.nanoTime() - start);
+            return notInjected;
+        }
+
+        return this.injectNetwork(input, type, src);
+    }
+
+    private T injectNetwork(T input, final Actionable type, final IActionSource src) {
         if (this.diveList(this, type)) {
             return input;
         }
@@ -84,6 +102,10 @@ public class NetworkInventoryHandler<T extends IAEStack<T>> implements IMEInvent
             return input;
         }
 
+        if (type == Actionable.MODULATE) {
+            this.injectOps.inc();
+        }
+
         // First pass. Check if the crafting grid is awaiting the input.
         for (final List<IMEInventoryHandler<T>> invList : this.craftingPriorityInventory.values()) {
             Iterator<IMEInventoryHandler<T>> ii = invList.iterator();
@@ -151,6 +173,18 @@ public class NetworkInventoryHandler<T extends IAEStack<T>> implements IMEInvent
         return input;
     }
 
+    NavigableMap<Integer, List<IMEInventoryHandler<T>>> getPriorityInventory() {
+        return this.priorityInventory;
+    }
+
+    NavigableMap<Integer, List<IMEInventoryHandler<T>>> getStickyPriorityInventory() {
+        return this.stickyPriorityInventory;
+    }
+
+    NavigableMap<Integer, List<IMEInventoryHandler<T>>> getCraftingPriorityInventory() {
+        return this.craftingPriorityInventory;
+    }
+
     private boolean diveList(final NetworkInventoryHandler<T> networkInventoryHandler, final Actionable type) {
         final Deque cDepth = this.getDepth(type);
         if (cDepth.contains(networkInventoryHandler)) {
@@ -173,11 +207,7 @@ public class NetworkInventoryHandler<T extends IAEStack<T>> implements IMEInvent
 
                 final IGrid gn = n.getGrid();
                 if (gn != this.security.getGrid()) {
-
-                    final ISecurityGrid sg = gn.getCache(ISecurityGrid.class);
-                    final int playerID = sg.getOwner();
-
-                    return !this.security.hasPermission(playerID, permission);
+                    return !this.security.hasPermission(gn, permission);
                 }
             }
         }
@@ -204,7 +234,20 @@ public class NetworkInventoryHandler<T extends IAEStack<T>> implements IMEInvent
     }
 
     @Override
-    public T extractItems(T request, final Actionable mode, final IActionSource src) {
+    public T extractItems(final T request, final Actionable mode, final IActionSource src) {
+        if (StorageTraceRecorder.isRecording() && this.getDepth(mode).isEmpty()) {
+            final int id = StorageTraceRecorder.INSTANCE.begin(this);
+            final long start = System.nanoTime();
+            final T extracted = this.extractNetwork(request, mode, src);
+
+            StorageTraceRecorder.INSTANCE.recordExtract(id, mode, request, extracted, System.nanoTime() - start);
+            return extracted;
+        }
+
+        return this.extractNetwork(request, mode, src);
+    }
+
+    private T extractNetwork(T request, final Actionable mode, final IActionSource src) {
         if (this.diveList(this, mode)) {
             return null;
         }
@@ -214,6 +257,10 @@ public class NetworkInventoryHandler<T extends IAEStack<T>> implements IMEInvent
             return null;
         }
 
+        if (mode == Actionable.MODULATE) {
+            this.extractOps.inc();
+        }
+
         final Iterator<List<IMEInventoryHandler<T>>> i = this.priorityInventory.descendingMap().values().iterator();// priorityInventory.asMap().descendingMap().entrySet().iterator();
 
         final T output = request.copy();
@@ -252,6 +299,74 @@ public class NetworkInventoryHandler<T extends IAEStack<T>> implements IMEInvent
         return output;
     }
 
+    @Override
+    public IItemList<T> extractItems(final IItemList<T> requests, final Actionable mode, final IActionSource src) {
+        if (StorageTraceRecorder.isRecording() && this.getDepth(mode).isEmpty()) {
+            final int id = StorageTraceRecorder.INSTANCE.begin(this);
+            final IItemList<T> recorded = this.myChannel.createList();
+            for (final T request : requests) {
+                recorded.add(request.copy());
+            }
+
+            final long start = System.nanoTime();
+            final IItemList<T> extracted = this.extractNetwork(requests, mode, src);
+
+            StorageTraceRecorder.INSTANCE.recordExtract(id, mode, recorded, extracted, System.nanoTime() - start);
+            return extracted;
+        }
+
+        return this.extractNetwork(requests, mode, src);
+    }
+
+    private IItemList<T> extractNetwork(final IItemList<T> requests, final Actionable mode, final IActionSource src) {
+        final IItemList<T> output = this.myChannel.createList();
+
+        if (this.diveList(this, mode)) {
+            return output;
+        }
+
+        if (this.testPermission(src, SecurityPermissions.EXTRACT)) {
+            this.surface(this, mode);
+            return output;
+        }
+
+        if (mode == Actionable.MODULATE) {
+            this.extractOps.add(requests.size());
+        }
+
+        // whatever is still missing, handlers get the whole remainder at once so they can batch their own work.
+        final IItemList<T> remaining = this.myChannel.createList();
+        for (final T request : requests) {
+            remaining.add(request.copy());
+        }
+
+        this.extractBatch(remaining, output, this.priorityInventory, mode, src);
+        this.extractBatch(remaining, output, this.stickyPriorityInventory, mode, src);
+
+        this.surface(this, mode);
+
+        return output;
+    }
+
+    private void extractBatch(final IItemList<T> remaining, final IItemList<T> output, final NavigableMap<Integer, List<IMEInventoryHandler<T>>> map, final Actionable mode, final IActionSource src) {
+        for (final List<IMEInventoryHandler<T>> invList : map.descendingMap().values()) {
+            for (final IMEInventoryHandler<T> inv : invList) {
+                if (remaining.isEmpty()) {
+                    return;
+                }
+
+                for (final T extracted : inv.extractItems(remaining, mode, src)) {
+                    output.add(extracted);
+
+                    final T left = remaining.findPrecise(extracted);
+                    if (left != null) {
+                        left.decStackSize(extracted.getStackSize());
+                    }
+                }
+            }
+        }
+    }
+
     @Override
     public IItemList<T> getAvailableItems(IItemList<T> out) {
         if (this.diveIteration(this, Actionable.SIMULATE)) {
@@ -0,0 +1,371 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.storage;
+
+
+import appeng.api.config.Actionable;
+import appeng.api.storage.ICellInventory;
+import appeng.api.storage.ICellInventoryHandler;
+import appeng.api.storage.IMEInventory;
+import appeng.api.storage.IMEInventoryHandler;
+import appeng.api.storage.IStorageChannel;
+import appeng.api.storage.data.IAEStack;
+import appeng.api.storage.data.IItemList;
+import appeng.core.AELog;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+
+
+/**
+ * Opt-in recorder of the operations on the network storage, so they can be replayed outside of the game.
+ * <p>
+ * Stacks are written as numbers in the order they are first seen, so a trace tells nothing about the actual items. The
+ * first operation on a network writes its handler layout, including limits and contents of the cells, so the replay
+ * can rebuild an equivalent stack of handlers. Only the outermost network call is recorded, calls into sub networks
+ * are part of it.
+ * <p>
+ * Format, all numbers as unsigned LEB128 varints unless noted, signed ones zig-zag encoded:
+ * <pre>
+ * header:       int MAGIC, int VERSION
+ * LAYOUT:       network, channel, handlerCount, handlers
+ * handler:      byte list, signed priority, byte access, byte isCell, [totalBytes, totalTypes, bytesPerType, unitsPerByte], entries
+ * INJECT:       delta, nanos, network, byte mode, stack, amount, notInjected
+ * EXTRACT:      delta, nanos, network, byte mode, stack, amount, extracted
+ * EXTRACT_LIST: delta, nanos, network, byte mode, requested entries, extracted entries
+ * POST_CHANGE:  delta, monitor, channel, entries with signed amounts
+ * entries:      count, count * (stack, amount)
+ * </pre>
+ * delta is the time since the previous event and nanos the time the operation took, both in nanoseconds.
+ */
+public final class StorageTraceRecorder {
+
+    public static final StorageTraceRecorder INSTANCE = new StorageTraceRecorder();
+
+    public static final int MAGIC = 0x41453254;
+    public static final int VERSION = 1;
+
+    public static final int LAYOUT = 1;
+    public static final int INJECT = 2;
+    public static final int EXTRACT = 3;
+    public static final int EXTRACT_LIST = 4;
+    public static final int POST_CHANGE = 5;
+
+    public static final int LIST_NORMAL = 0;
+    public static final int LIST_STICKY = 1;
+    public static final int LIST_CRAFTING = 2;
+
+    private static volatile boolean recording = false;
+
+    private final Object2IntOpenHashMap<IAEStack<?>> stacks = new Object2IntOpenHashMap<>();
+    private final Reference2IntOpenHashMap<Object> sources = new Reference2IntOpenHashMap<>();
+    private final Reference2IntOpenHashMap<IStorageChannel<?>> channels = new Reference2IntOpenHashMap<>();
+    private DataOutputStream out;
+    private File file;
+    private long lastEvent;
+    private long events;
+
+    private StorageTraceRecorder() {
+        this.stacks.defaultReturnValue(-1);
+        this.sources.defaultReturnValue(-1);
+        this.channels.defaultReturnValue(-1);
+    }
+
+    public static boolean isRecording() {
+        return recording;
+    }
+
+    public synchronized void start(final File file) throws IOException {
+        this.stop();
+
+        this.out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), 1 << 16));
+        this.out.writeInt(MAGIC);
+        this.out.writeInt(VERSION);
+        this.file = file;
+        this.lastEvent = System.nanoTime();
+        this.events = 0;
+
+        recording = true;
+    }
+
+    /**
+     * @return the finished trace, or null if nothing was recorded
+     */
+    public synchronized File stop() {
+        if (this.out == null) {
+            return null;
+        }
+
+        recording = false;
+
+        try {
+            this.out.close();
+        } catch (final IOException e) {
+            AELog.debug(e);
+        }
+
+        AELog.info("Storage trace " + this.file + " finished with " + this.events + " events");
+
+        final File done = this.file;
+        this.out = null;
+        this.file = null;
+        this.stacks.clear();
+        this.sources.clear();
+        this.channels.clear();
+        return done;
+    }
+
+    /**
+     * Called before the operation, so the layout shows the state it started with.
+     *
+     * @return the id of the network, or -1 if nothing is recorded
+     */
+    synchronized int begin(final NetworkInventoryHandler<?> network) {
+        if (this.out == null) {
+            return -1;
+        }
+
+        int id = this.sources.getInt(network);
+
+        if (id < 0) {
+            id = this.sources.size();
+            this.sources.put(network, id);
+
+            try {
+                this.writeLayout(id, network);
+            } catch (final IOException e) {
+                this.fail(e);
+                return -1;
+            }
+        }
+
+        return id;
+    }
+
+    synchronized void recordInject(final int network, final Actionable mode, final IAEStack<?> input, final IAEStack<?> notInjected, final long nanos) {
+        if (this.out == null || network < 0 || input == null) {
+            return;
+        }
+
+        try {
+            this.writeEvent(INJECT);
+            this.writeVar(nanos);
+            this.writeVar(network);
+            this.out.writeByte(mode.ordinal());
+            this.writeVar(this.stackId(input));
+            this.writeVar(input.getStackSize());
+            this.writeVar(notInjected == null ? 0 : notInjected.getStackSize());
+        } catch (final IOException e) {
+            this.fail(e);
+        }
+    }
+
+    synchronized void recordExtract(final int network, final Actionable mode, final IAEStack<?> request, final IAEStack<?> extracted, final long nanos) {
+        if (this.out == null || network < 0 || request == null) {
+            return;
+        }
+
+        try {
+            this.writeEvent(EXTRACT);
+            this.writeVar(nanos);
+            this.writeVar(network);
+            this.out.writeByte(mode.ordinal());
+            this.writeVar(this.stackId(request));
+            this.writeVar(request.getStackSize());
+            this.writeVar(extracted == null ? 0 : extracted.getStackSize());
+        } catch (final IOException e) {
+            this.fail(e);
+        }
+    }
+
+    synchronized void recordExtract(final int network, final Actionable mode, final IItemList<?> requests, final IItemList<?> extracted, final long nanos) {
+        if (this.out == null || network < 0) {
+            return;
+        }
+
+        try {
+            this.writeEvent(EXTRACT_LIST);
+            this.writeVar(nanos);
+            this.writeVar(network);
+            this.out.writeByte(mode.ordinal());
+            this.writeEntries(requests, false);
+            this.writeEntries(extracted, false);
+        } catch (final IOException e) {
+            this.fail(e);
+        }
+    }
+
+    /**
+     * @param changes the changes as signed amounts
+     */
+    public synchronized void recordPostChange(final Object monitor, final IStorageChannel<?> channel, final Iterable<? extends IAEStack<?>> changes) {
+        if (this.out == null) {
+            return;
+        }
+
+        int id = this.sources.getInt(monitor);
+        if (id < 0) {
+            id = this.sources.size();
+            this.sources.put(monitor, id);
+        }
+
+        try {
+            this.writeEvent(POST_CHANGE);
+            this.writeVar(id);
+            this.writeVar(this.channelId(channel));
+            this.writeEntries(changes, true);
+        } catch (final IOException e) {
+            this.fail(e);
+        }
+    }
+
+    private void writeLayout(final int id, final NetworkInventoryHandler<?> network) throws IOException {
+        this.out.writeByte(LAYOUT);
+        this.writeVar(id);
+        this.writeVar(this.channelId(network.getChannel()));
+
+        int count = 0;
+        count += countHandlers(network.getPriorityInventory());
+        count += countHandlers(network.getStickyPriorityInventory());
+        count += countHandlers(network.getCraftingPriorityInventory());
+        this.writeVar(count);
+
+        this.writeHandlers(LIST_NORMAL, network.getPriorityInventory(), network.getChannel());
+        this.writeHandlers(LIST_STICKY, network.getStickyPriorityInventory(), network.getChannel());
+        this.writeHandlers(LIST_CRAFTING, network.getCraftingPriorityInventory(), network.getChannel());
+    }
+
+    private static int countHandlers(final NavigableMap<Integer, ? extends List<?>> map) {
+        int count = 0;
+        for (final List<?> list : map.values()) {
+            count += list.size();
+        }
+        return count;
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private void writeHandlers(final int list, final NavigableMap<Integer, ? extends List<? extends IMEInventoryHandler<?>>> map, final IStorageChannel channel) throws IOException {
+        for (final Map.Entry<Integer, ? extends List<? extends IMEInventoryHandler<?>>> e : map.entrySet()) {
+            for (final IMEInventoryHandler h : e.getValue()) {
+                this.out.writeByte(list);
+                this.writeSigned(e.getKey());
+                this.out.writeByte(h.getAccess().ordinal());
+
+                IMEInventory<?> inv = h;
+                while (inv instanceof MEInventoryHandler) {
+                    inv = ((MEInventoryHandler<?>) inv).getInternal();
+                }
+
+                final ICellInventory<?> cell = inv instanceof ICellInventoryHandler ? ((ICellInventoryHandler<?>) inv).getCellInv() : null;
+                if (cell != null) {
+                    this.out.writeByte(1);
+                    this.writeVar(cell.getTotalBytes());
+                    this.writeVar(cell.getTotalItemTypes());
+                    this.writeVar(cell.getBytesPerType());
+                    this.writeVar(channel.getUnitsPerByte());
+                } else {
+                    this.out.writeByte(0);
+                }
+
+                this.writeEntries(h.getAvailableItems(channel.createList()), false);
+            }
+        }
+    }
+
+    private void writeEntries(final Iterable<? extends IAEStack<?>> stacks, final boolean signed) throws IOException {
+        int count = 0;
+        for (final IAEStack<?> is : stacks) {
+            if (is != null) {
+                count++;
+            }
+        }
+
+        this.writeVar(count);
+
+        for (final IAEStack<?> is : stacks) {
+            if (is != null) {
+                this.writeVar(this.stackId(is));
+
+                if (signed) {
+                    this.writeSigned(is.getStackSize());
+                } else {
+                    this.writeVar(Math.max(0, is.getStackSize()));
+                }
+            }
+        }
+    }
+
+    private void writeEvent(final int type) throws IOException {
+        final long now = System.nanoTime();
+
+        this.out.writeByte(type);
+        this.writeVar(now - this.lastEvent);
+        this.lastEvent = now;
+        this.events++;
+    }
+
+    private int stackId(final IAEStack<?> is) {
+        int id = this.stacks.getInt(is);
+
+        if (id < 0) {
+            id = this.stacks.size();
+            this.stacks.put(is.copy(), id);
+        }
+
+        return id;
+    }
+
+    private int channelId(final IStorageChannel<?> channel) {
+        int id = this.channels.getInt(channel);
+
+        if (id < 0) {
+            id = this.channels.size();
+            this.channels.put(channel, id);
+        }
+
+        return id;
+    }
+
+    private void writeVar(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            this.out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+
+        this.out.writeByte((int) value);
+    }
+
+    private void writeSigned(final long value) throws IOException {
+        this.writeVar((value << 1) ^ (value >> 63));
+    }
+
+    private void fail(final IOException e) {
+        AELog.warn("Storage trace failed, recording stopped");
+        AELog.debug(e);
+        this.stop();
+    }
+}
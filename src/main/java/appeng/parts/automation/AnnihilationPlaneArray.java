@@ -0,0 +1,304 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+
+package appeng.parts.automation;
+
+
+import appeng.api.AEApi;
+import appeng.api.config.Actionable;
+import appeng.api.config.PowerMultiplier;
+import appeng.api.networking.IGrid;
+import appeng.api.networking.energy.IEnergyGrid;
+import appeng.api.networking.security.IActionSource;
+import appeng.api.networking.storage.IStorageGrid;
+import appeng.api.storage.IMEMonitor;
+import appeng.api.storage.channels.IItemStorageChannel;
+import appeng.api.storage.data.IAEItemStack;
+import appeng.api.storage.data.IItemList;
+import appeng.api.util.AEPartLocation;
+import appeng.core.AppEng;
+import appeng.core.sync.packets.PacketTransitionEffect;
+import appeng.hooks.TickHandler;
+import appeng.util.IWorldCallable;
+import appeng.util.Platform;
+import appeng.util.item.AEItemStack;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import net.minecraft.block.Block;
+import net.minecraft.enchantment.Enchantment;
+import net.minecraft.entity.item.EntityItem;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+
+import java.util.*;
+
+
+/**
+ * The annihilation planes of one grid facing the same way with the same enchantments, which break their blocks in the
+ * same tick. Their drops are tested against the network and their energy is drawn at once, and the dropped items are
+ * collected by one entity query and stored as one insert per item type.
+ * <p>
+ * If the network can't take everything, each plane falls back to breaking its block on its own.
+ */
+final class AnnihilationPlaneArray implements IWorldCallable<Void> {
+
+    /**
+     * The broken blocks are searched for items with a single box while it is at most this many times their count, the
+     * items found in it are then narrowed down to the ones touching a broken block.
+     */
+    private static final int MAX_BOX_VOLUME_FACTOR = 2;
+
+    private static final WeakHashMap<World, Map<Key, AnnihilationPlaneArray>> PENDING = new WeakHashMap<>();
+
+    private final Key key;
+    private final List<PartAnnihilationPlane> planes = new ArrayList<>();
+
+    private AnnihilationPlaneArray(final Key key) {
+        this.key = key;
+    }
+
+    /**
+     * Adds the plane to the array breaking blocks at the start of the next world tick.
+     */
+    static void queue(final PartAnnihilationPlane plane, final IGrid grid) {
+        final World w = plane.getTile().getWorld();
+        final Key key = new Key(grid, plane.getSide(), plane.getClass(), plane.getEnchantments());
+        final Map<Key, AnnihilationPlaneArray> pending = PENDING.computeIfAbsent(w, $ -> new HashMap<>());
+
+        AnnihilationPlaneArray array = pending.get(key);
+        if (array == null) {
+            array = new AnnihilationPlaneArray(key);
+            pending.put(key, array);
+            TickHandler.INSTANCE.addCallable(w, array);
+        }
+
+        array.planes.add(plane);
+    }
+
+    @Override
+    public Void call(final World world) throws Exception {
+        final Map<Key, AnnihilationPlaneArray> pending = PENDING.get(world);
+        if (pending != null) {
+            pending.remove(this.key, this);
+        }
+
+        final WorldServer w = (WorldServer) world;
+        final IItemStorageChannel channel = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class);
+        final IItemList<IAEItemStack> drops = channel.createList();
+        final List<Target> targets = new ArrayList<>(this.planes.size());
+        float requiredPower = 0;
+
+        for (final PartAnnihilationPlane plane : this.planes) {
+            plane.setBreaking(false);
+
+            if (!plane.canBreakWith(this.key.grid)) {
+                continue;
+            }
+
+            final BlockPos pos = plane.getTargetPos();
+            if (!plane.canHandleBlock(w, pos)) {
+                continue;
+            }
+
+            final List<ItemStack> items = plane.obtainBlockDrops(w, pos);
+            for (final ItemStack is : items) {
+                if (!is.isEmpty()) {
+                    drops.add(AEItemStack.fromItemStack(is));
+                }
+            }
+
+            requiredPower += plane.calculateEnergyUsage(w, pos, items);
+            targets.add(new Target(plane, pos, items));
+        }
+
+        if (targets.isEmpty()) {
+            return null;
+        }
+
+        final IEnergyGrid energy = this.key.grid.getCache(IEnergyGrid.class);
+        final IStorageGrid storage = this.key.grid.getCache(IStorageGrid.class);
+        final IMEMonitor<IAEItemStack> inv = storage.getInventory(channel);
+        final IActionSource src = targets.get(0).plane.getActionSource();
+
+        boolean canStore = energy.extractAEPower(requiredPower, Actionable.SIMULATE, PowerMultiplier.CONFIG) > requiredPower - 0.1;
+        for (final IAEItemStack is : drops) {
+            if (!canStore) {
+                break;
+            }
+            canStore = inv.injectItems(is.copy(), Actionable.SIMULATE, src) == null;
+        }
+
+        if (!canStore) {
+            for (final Target t : targets) {
+                t.plane.breakBlock(true);
+            }
+            return null;
+        }
+
+        energy.extractAEPower(requiredPower, Actionable.MODULATE, PowerMultiplier.CONFIG);
+
+        for (final Target t : targets) {
+            for (final ItemStack is : t.items) {
+                Block.spawnAsEntity(w, t.pos, is);
+            }
+        }
+
+        final boolean accepting = this.storeItems(w, targets, energy, inv, src);
+
+        for (final Target t : targets) {
+            t.plane.setAccepting(accepting);
+            w.destroyBlock(t.pos, false);
+            AppEng.proxy.sendToAllNearExcept(null, t.pos.getX(), t.pos.getY(), t.pos.getZ(), 64, w,
+                    new PacketTransitionEffect(t.pos.getX(), t.pos.getY(), t.pos.getZ(), this.key.side, true));
+        }
+
+        return null;
+    }
+
+    /**
+     * Stores the items lying in the broken blocks with one insert per item type, and gives the overflow back to the
+     * entities.
+     *
+     * @return true, if everything was stored
+     */
+    private boolean storeItems(final WorldServer w, final List<Target> targets, final IEnergyGrid energy, final IMEMonitor<IAEItemStack> inv, final IActionSource src) {
+        AxisAlignedBB box = new AxisAlignedBB(targets.get(0).pos);
+        for (final Target t : targets) {
+            box = box.union(new AxisAlignedBB(t.pos));
+        }
+
+        final Set<EntityItem> entities = new ReferenceLinkedOpenHashSet<>();
+        if ((box.maxX - box.minX) * (box.maxY - box.minY) * (box.maxZ - box.minZ) <= targets.size() * MAX_BOX_VOLUME_FACTOR) {
+            final Set<BlockPos> broken = new ObjectOpenHashSet<>(targets.size());
+            for (final Target t : targets) {
+                broken.add(t.pos);
+            }
+
+            for (final EntityItem entityItem : w.getEntitiesWithinAABB(EntityItem.class, box.grow(0.2))) {
+                if (touchesAny(entityItem, broken)) {
+                    entities.add(entityItem);
+                }
+            }
+        } else {
+            for (final Target t : targets) {
+                entities.addAll(w.getEntitiesWithinAABB(EntityItem.class, new AxisAlignedBB(t.pos).grow(0.2)));
+            }
+        }
+
+        final IItemStorageChannel channel = AEApi.instance().storage().getStorageChannel(IItemStorageChannel.class);
+        final IItemList<IAEItemStack> collected = channel.createList();
+        for (final EntityItem entityItem : entities) {
+            if (!entityItem.isDead && !entityItem.getItem().isEmpty()) {
+                collected.add(AEItemStack.fromItemStack(entityItem.getItem()));
+            }
+        }
+
+        final IItemList<IAEItemStack> overflows = channel.createList();
+        for (final IAEItemStack is : collected) {
+            final IAEItemStack overflow = Platform.poweredInsert(energy, inv, is.copy(), src);
+            if (overflow != null) {
+                overflows.add(overflow);
+            }
+        }
+
+        for (final EntityItem entityItem : entities) {
+            if (entityItem.isDead || entityItem.getItem().isEmpty()) {
+                continue;
+            }
+
+            final IAEItemStack left = overflows.isEmpty() ? null : overflows.findPrecise(AEItemStack.fromItemStack(entityItem.getItem()));
+            final int keep = left == null ? 0 : (int) Math.min(left.getStackSize(), entityItem.getItem().getCount());
+
+            if (keep <= 0) {
+                entityItem.setDead();
+            } else {
+                left.decStackSize(keep);
+                entityItem.getItem().setCount(keep);
+            }
+        }
+
+        return overflows.isEmpty();
+    }
+
+    /**
+     * The same test as searching each broken block with its own box grown by 0.2.
+     */
+    private static boolean touchesAny(final EntityItem entityItem, final Set<BlockPos> broken) {
+        final AxisAlignedBB bb = entityItem.getEntityBoundingBox().grow(0.2);
+
+        for (int x = MathHelper.floor(bb.minX); x <= MathHelper.floor(bb.maxX); x++) {
+            for (int y = MathHelper.floor(bb.minY); y <= MathHelper.floor(bb.maxY); y++) {
+                for (int z = MathHelper.floor(bb.minZ); z <= MathHelper.floor(bb.maxZ); z++) {
+                    if (broken.contains(new BlockPos(x, y, z))) {
+                        return true;
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private static final class Target {
+
+        private final PartAnnihilationPlane plane;
+        private final BlockPos pos;
+        private final List<ItemStack> items;
+
+        private Target(final PartAnnihilationPlane plane, final BlockPos pos, final List<ItemStack> items) {
+            this.plane = plane;
+            this.pos = pos;
+            this.items = items;
+        }
+    }
+
+    private static final class Key {
+
+        private final IGrid grid;
+        private final AEPartLocation side;
+        private final Class<?> type;
+        private final Map<Enchantment, Integer> enchantments;
+
+        private Key(final IGrid grid, final AEPartLocation side, final Class<?> type, final Map<Enchantment, Integer> enchantments) {
+            this.grid = grid;
+            this.side = side;
+            this.type = type;
+            this.enchantments = enchantments;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+
+            final Key other = (Key) obj;
+            return this.grid == other.grid && this.side == other.side && this.type == other.type && this.enchantments.equals(other.enchantments);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(this.grid), this.side, this.type, this.enchantments);
+        }
+    }
+}
@@ -22,6 +22,7 @@ package appeng.parts.automation;
 import appeng.api.AEApi;
 import appeng.api.config.Actionable;
 import appeng.api.config.PowerMultiplier;
+import appeng.api.networking.IGrid;
 import appeng.api.networking.IGridNode;
 import appeng.api.networking.energy.IEnergyGrid;
 import appeng.api.networking.events.MENetworkChannelsChanged;
@@ -40,7 +41,9 @@ import appeng.api.storage.channels.IItemStorageChannel;
 import appeng.api.storage.data.IAEItemStack;
 import appeng.api.util.AECableType;
 import appeng.api.util.AEPartLocation;
+import appeng.core.AEConfig;
 import appeng.core.AppEng;
+import appeng.core.features.AEFeature;
 import appeng.core.settings.TickRates;
 import appeng.core.sync.packets.PacketTransitionEffect;
 import appeng.hooks.TickHandler;
@@ -375,7 +378,7 @@ public class PartAnnihilationPlane extends PartBasicState implements IGridTickab
         this.getHost().markForUpdate();
     }
 
-    private TickRateModulation breakBlock(final boolean modulate) {
+    TickRateModulation breakBlock(final boolean modulate) {
         if (this.isAccepting && this.getProxy().isActive()) {
             try {
                 final TileEntity te = this.getTile();
@@ -424,14 +427,67 @@ public class PartAnnihilationPlane extends PartBasicState implements IGridTickab
             return TickRateModulation.URGENT;
         }
 
+        if (AEConfig.instance().isFeatureEnabled(AEFeature.PLANE_ARRAYS)) {
+            // the last attempt could not store its drops
+            final boolean stalled = !this.isAccepting;
+            this.isAccepting = true;
+            return this.queueBreak() && !stalled ? TickRateModulation.URGENT : TickRateModulation.IDLE;
+        }
+
         this.isAccepting = true;
         return this.breakBlock(false);
     }
 
+    /**
+     * Lets the {@link AnnihilationPlaneArray} of this plane break the block in front of it.
+     */
+    private boolean queueBreak() {
+        if (!this.getProxy().isActive() || !this.canHandleBlock((WorldServer) this.getTile().getWorld(), this.getTargetPos())) {
+            return false;
+        }
+
+        try {
+            AnnihilationPlaneArray.queue(this, this.getProxy().getGrid());
+        } catch (final GridAccessException e) {
+            return false;
+        }
+
+        this.breaking = true;
+        return true;
+    }
+
+    boolean canBreakWith(final IGrid grid) {
+        try {
+            return this.getHost() != null && this.isAccepting && this.getProxy().isActive() && this.getProxy().getGrid() == grid;
+        } catch (final GridAccessException e) {
+            return false;
+        }
+    }
+
+    BlockPos getTargetPos() {
+        return this.getTile().getPos().offset(this.getSide().getFacing());
+    }
+
+    IActionSource getActionSource() {
+        return this.mySrc;
+    }
+
+    Map<Enchantment, Integer> getEnchantments() {
+        return this.enchantments;
+    }
+
+    void setAccepting(final boolean accepting) {
+        this.isAccepting = accepting;
+    }
+
+    void setBreaking(final boolean breaking) {
+        this.breaking = breaking;
+    }
+
     /**
      * Checks if this plane can handle the block at the specific coordinates.
      */
-    private boolean canHandleBlock(final WorldServer w, final BlockPos pos) {
+    boolean canHandleBlock(final WorldServer w, final BlockPos pos) {
         final IBlockState state = w.getBlockState(pos);
         final Material material = state.getMaterial();
         final float hardness = state.getBlockHardness(w, pos);
@@ -65,11 +65,14 @@ import net.minecraftforge.items.IItemHandler;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 
 public class PartFormationPlane extends PartAbstractFormationPlane<IAEItemStack> {
 
     private static final PlaneModels MODELS = new PlaneModels("part/formation_plane_", "part/formation_plane_on_");
+    private static final Map<World, SpawnLog> SPAWNED = new WeakHashMap<>();
 
     @PartModels
     public static List<IPartModel> getModels() {
@@ -80,6 +83,11 @@ public class PartFormationPlane extends PartAbstractFormationPlane<IAEItemStack>
             .storage()
             .getStorageChannel(IItemStorageChannel.class));
     private final AppEngInternalAEInventory Config = new AppEngInternalAEInventory(this, 63);
+    // the entities around the plane are only counted once per tick, the simulated and real inserts share it
+    private long countedTick = -1;
+    private int countedEntities;
+    private int countedSpawns;
+    private AxisAlignedBB countedBox;
 
     public PartFormationPlane(final ItemStack is) {
         super(is);
@@ -276,6 +284,8 @@ public class PartFormationPlane extends PartAbstractFormationPlane<IAEItemStack>
                         if (!w.spawnEntity(result)) {
                             result.setDead();
                             worked = false;
+                        } else {
+                            SPAWNED.get(w).add(result.getPositionVector());
                         }
                     }
                 } else {
@@ -318,10 +328,49 @@ public class PartFormationPlane extends PartAbstractFormationPlane<IAEItemStack>
         return GuiBridge.GUI_FORMATION_PLANE;
     }
 
+    /**
+     * Counts the entities once per tick, and adds what any formation plane of the world spawned since then, so planes
+     * sharing an area can't each fill it up to the limit.
+     */
     private int countEntitesAround(World world, BlockPos pos) {
-        final AxisAlignedBB t = new AxisAlignedBB(pos).grow(8);
-        final List<Entity> list = world.getEntitiesWithinAABB(Entity.class, t);
+        final long tick = world.getTotalWorldTime();
+        final SpawnLog spawned = SPAWNED.computeIfAbsent(world, w -> new SpawnLog());
+        spawned.startTick(tick);
+
+        if (tick != this.countedTick) {
+            this.countedBox = new AxisAlignedBB(pos).grow(8);
+            this.countedTick = tick;
+            this.countedEntities = world.getEntitiesWithinAABB(Entity.class, this.countedBox).size();
+            this.countedSpawns = spawned.positions.size();
+        }
+
+        int sum = this.countedEntities;
+        for (int i = this.countedSpawns; i < spawned.positions.size(); i++) {
+            if (this.countedBox.contains(spawned.positions.get(i))) {
+                sum++;
+            }
+        }
+
+        return sum;
+    }
 
-        return list.size();
+    /**
+     * Where the formation planes of a world spawned entities during the current tick.
+     */
+    private static final class SpawnLog {
+
+        private final List<Vec3d> positions = new ArrayList<>();
+        private long tick = -1;
+
+        private void startTick(final long tick) {
+            if (this.tick != tick) {
+                this.tick = tick;
+                this.positions.clear();
+            }
+        }
+
+        private void add(final Vec3d pos) {
+            this.positions.add(pos);
+        }
     }
 }
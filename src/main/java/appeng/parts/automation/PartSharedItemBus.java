@@ -26,6 +26,7 @@ import appeng.api.networking.ticking.TickRateModulation;
 import appeng.me.GridAccessException;
 import appeng.tile.inventory.AppEngInternalAEInventory;
 import appeng.util.InventoryAdaptor;
+import appeng.util.NeighborCache;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.math.BlockPos;
@@ -81,20 +82,7 @@ public abstract class PartSharedItemBus extends PartUpgradeable implements IGrid
     }
 
     protected InventoryAdaptor getHandler() {
-        final TileEntity self = this.getHost().getTile();
-        final TileEntity target = this.getTileEntity(self, self.getPos().offset(this.getSide().getFacing()));
-
-        return InventoryAdaptor.getAdaptor(target, this.getSide().getFacing().getOpposite());
-    }
-
-    private TileEntity getTileEntity(final TileEntity self, final BlockPos pos) {
-        final World w = self.getWorld();
-
-        if (w.getChunkProvider().getLoadedChunk(pos.getX() >> 4, pos.getZ() >> 4) != null) {
-            return w.getTileEntity(pos);
-        }
-
-        return null;
+        return NeighborCache.getAdaptor(this.getHost().getTile(), this.getSide().getFacing());
     }
 
     protected int availableSlots() {
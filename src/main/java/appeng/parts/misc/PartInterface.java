@@ -109,7 +109,7 @@ public class PartInterface extends PartBasicState implements IGridTickable, ISto
     @Override
     @MENetworkEventSubscribe
     public void powerRender(final MENetworkPowerStatusChange c) {
-        this.duality.notifyNeighbors();
+        this.duality.onPowerStatusChange();
     }
 
     @Override
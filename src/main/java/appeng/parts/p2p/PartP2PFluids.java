@@ -22,6 +22,7 @@ package appeng.parts.p2p;
 import appeng.api.parts.IPartModel;
 import appeng.items.parts.PartModels;
 import appeng.me.GridAccessException;
+import appeng.util.NeighborCache;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.math.BlockPos;
@@ -250,7 +251,7 @@ public class PartP2PFluids extends PartP2PTunnel<PartP2PFluids> implements IFlui
             return this.cachedTank;
         }
 
-        final TileEntity te = this.getTile().getWorld().getTileEntity(this.getTile().getPos().offset(this.getSide().getFacing()));
+        final TileEntity te = NeighborCache.getTileEntity(this.getTile(), this.getSide().getFacing());
 
         if (te != null && te.hasCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, this.getSide().getFacing().getOpposite())) {
             return this.cachedTank = te.getCapability(CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY,
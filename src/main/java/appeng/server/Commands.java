@@ -20,11 +20,15 @@ package appeng.server;
 
 
 import appeng.server.subcommands.ChunkLogger;
+import appeng.server.subcommands.MeteoriteBenchmark;
+import appeng.server.subcommands.Stats;
+import appeng.server.subcommands.StorageTrace;
 import appeng.server.subcommands.Supporters;
 
 
 public enum Commands {
-    Chunklogger(4, new ChunkLogger()), Supporters(0, new Supporters());
+    Chunklogger(4, new ChunkLogger()), Supporters(0, new Supporters()), MeteoriteBenchmark(4, new MeteoriteBenchmark()), Stats(4, new Stats()),
+    StorageTrace(4, new StorageTrace());
 
     public final int level;
     public final ISubCommand command;
@@ -0,0 +1,96 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.server.subcommands;
+
+
+import appeng.core.AELog;
+import appeng.server.ISubCommand;
+import appeng.worldgen.MeteoritePlacer;
+import appeng.worldgen.meteorite.BufferedWorld;
+import appeng.worldgen.meteorite.IMeteoriteWorld;
+import appeng.worldgen.meteorite.StandardWorld;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentString;
+import net.minecraft.world.World;
+
+
+/**
+ * Places the given number of meteorites next to the sender once block by block and once buffered, and reports how long
+ * each took. Meant to be run in a flat test world, as it changes the terrain and records the meteorites like the
+ * debug placer does.
+ */
+public class MeteoriteBenchmark implements ISubCommand {
+
+    private static final int SPACING = 96;
+    private static final int MAX_COUNT = 64;
+
+    @Override
+    public String getHelp(final MinecraftServer srv) {
+        return "commands.ae2.MeteoriteBenchmark";
+    }
+
+    @Override
+    public void call(final MinecraftServer srv, final String[] data, final ICommandSender sender) {
+        int count = 8;
+
+        if (data.length > 1) {
+            count = Math.max(1, Math.min(MAX_COUNT, Integer.parseInt(data[1])));
+        }
+
+        final World w = sender.getEntityWorld();
+        final BlockPos origin = sender.getPosition();
+
+        final long direct = this.place(w, origin.getX(), origin.getZ() + SPACING, count, false);
+        final long buffered = this.place(w, origin.getX(), origin.getZ() + SPACING * 2, count, true);
+
+        final String result = "Placed " + count + " meteorites: direct " + direct / 1000000 + "ms, buffered " + buffered / 1000000 + "ms";
+        AELog.info(result);
+        sender.sendMessage(new TextComponentString(result));
+    }
+
+    private long place(final World w, final int x, final int z, final int count, final boolean buffered) {
+        // load the terrain up front, so only the placement is measured.
+        for (int i = 1; i <= count; i++) {
+            final int cx = (x + i * SPACING) >> 4;
+
+            for (int ox = -2; ox <= 2; ox++) {
+                for (int oz = -2; oz <= 2; oz++) {
+                    w.getChunk(cx + ox, (z >> 4) + oz);
+                }
+            }
+        }
+
+        long duration = 0;
+
+        for (int i = 1; i <= count; i++) {
+            final int px = x + i * SPACING;
+            final int py = w.getHeight(px, z) - 1;
+            final StandardWorld standard = new StandardWorld(w);
+            final IMeteoriteWorld mw = buffered ? new BufferedWorld(standard) : standard;
+
+            final long start = System.nanoTime();
+            new MeteoritePlacer().spawnMeteorite(mw, px, py, z);
+            duration += System.nanoTime() - start;
+        }
+
+        return duration;
+    }
+}
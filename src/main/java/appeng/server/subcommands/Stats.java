@@ -0,0 +1,84 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.server.subcommands;
+
+
+import appeng.me.metrics.GridMetrics;
+import appeng.me.metrics.GridMetricsRegistry;
+import appeng.server.ISubCommand;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.TextComponentString;
+import net.minecraft.util.text.TextComponentTranslation;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+
+public class Stats implements ISubCommand {
+
+    private static final int DEFAULT_GRIDS = 10;
+
+    @Override
+    public String getHelp(final MinecraftServer srv) {
+        return "commands.ae2.Stats";
+    }
+
+    @Override
+    public void call(final MinecraftServer srv, final String[] data, final ICommandSender sender) {
+        if (data.length > 1 && "dump".equals(data[1])) {
+            final CompletableFuture<File> written = GridMetricsRegistry.INSTANCE.dump();
+            if (written == null) {
+                sender.sendMessage(new TextComponentTranslation("commands.ae2.StatsDumpSkipped"));
+                return;
+            }
+
+            written.whenComplete((file, error) -> srv.addScheduledTask(() -> {
+                if (error != null) {
+                    sender.sendMessage(new TextComponentTranslation("commands.ae2.StatsDumpFailed", error.getMessage()));
+                } else {
+                    sender.sendMessage(new TextComponentTranslation("commands.ae2.StatsDumped"));
+                }
+            }));
+            return;
+        }
+
+        int limit = DEFAULT_GRIDS;
+        if (data.length > 1) {
+            try {
+                limit = Math.max(1, Integer.parseInt(data[1]));
+            } catch (final NumberFormatException e) {
+                sender.sendMessage(new TextComponentTranslation(this.getHelp(srv)));
+                return;
+            }
+        }
+
+        final List<GridMetrics> metrics = GridMetricsRegistry.INSTANCE.collect();
+
+        sender.sendMessage(new TextComponentString(metrics.size() + " grids"));
+
+        for (final GridMetrics m : metrics.subList(0, Math.min(limit, metrics.size()))) {
+            sender.sendMessage(new TextComponentString(String.format("%s @ %s: %d nodes, %d channels, %d/%d item types/bytes, %d/%d fluid types/bytes",
+                    m.getId(), m.getLocation(), m.getNodes(), m.getChannels(), m.getItems().getTypes(), m.getItems().getUsedBytes(), m.getFluids().getTypes(), m.getFluids().getUsedBytes())));
+            sender.sendMessage(new TextComponentString(String.format("  %.1f inject/s, %.1f extract/s, %.1f AE/t, %d/%d CPUs busy, %d calculations",
+                    m.getInjectRate(), m.getExtractRate(), m.getAvgPowerUsage(), m.getBusyCpus(), m.getCpus(), m.getPendingCalculations())));
+        }
+    }
+}
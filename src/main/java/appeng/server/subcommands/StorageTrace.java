@@ -0,0 +1,70 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.server.subcommands;
+
+
+import appeng.core.AELog;
+import appeng.core.worlddata.WorldData;
+import appeng.me.storage.StorageTraceRecorder;
+import appeng.server.ISubCommand;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.TextComponentString;
+import net.minecraft.util.text.TextComponentTranslation;
+
+import java.io.File;
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+
+public class StorageTrace implements ISubCommand {
+
+    private static final String TRACE_DIR_NAME = "traces";
+
+    @Override
+    public String getHelp(final MinecraftServer srv) {
+        return "commands.ae2.StorageTrace";
+    }
+
+    @Override
+    public void call(final MinecraftServer srv, final String[] data, final ICommandSender sender) {
+        if (StorageTraceRecorder.isRecording()) {
+            final File trace = StorageTraceRecorder.INSTANCE.stop();
+            sender.sendMessage(new TextComponentTranslation("commands.ae2.StorageTraceOff", String.valueOf(trace)));
+            return;
+        }
+
+        final File dir = new File(WorldData.instance().directory(), TRACE_DIR_NAME);
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            sender.sendMessage(new TextComponentString("Failed to create " + dir.getAbsolutePath()));
+            return;
+        }
+
+        final File trace = new File(dir, "trace-" + new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date()) + ".bin");
+
+        try {
+            StorageTraceRecorder.INSTANCE.start(trace);
+            sender.sendMessage(new TextComponentTranslation("commands.ae2.StorageTraceOn", trace.getName()));
+        } catch (final IOException e) {
+            AELog.debug(e);
+            sender.sendMessage(new TextComponentString("Failed to create " + trace.getAbsolutePath()));
+        }
+    }
+}
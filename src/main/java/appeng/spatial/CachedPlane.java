@@ -35,6 +35,7 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.NextTickListEntry;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.NibbleArray;
 import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
 
 import java.util.ArrayList;
@@ -186,6 +187,11 @@ public class CachedPlane {
             AELog.info("Block Copy Scale: " + this.x_size + ", " + this.y_size + ", " + this.z_size);
 
             long startTime = System.nanoTime();
+            final boolean[][][] swapped = this.swapSections(dst);
+            long endTime = System.nanoTime();
+            AELog.info("Section Swap Time: " + (endTime - startTime));
+
+            startTime = System.nanoTime();
             final BlockStorageData aD = new BlockStorageData();
             final BlockStorageData bD = new BlockStorageData();
 
@@ -198,6 +204,10 @@ public class CachedPlane {
                         final int src_y = y + this.y_offset;
                         final int dst_y = y + dst.y_offset;
 
+                        if (swapped != null && this.isInSwappedSection(swapped, x, y, z)) {
+                            continue;
+                        }
+
                         if (a.doNotSkip(src_y) && b.doNotSkip(dst_y)) {
                             a.fillData(src_y, aD);
                             b.fillData(dst_y, bD);
@@ -212,10 +222,12 @@ public class CachedPlane {
                 }
             }
 
-            long endTime = System.nanoTime();
+            endTime = System.nanoTime();
             long duration = endTime - startTime;
             AELog.info("Block Copy Time: " + duration);
 
+            startTime = System.nanoTime();
+
             for (final TileEntity te : this.tiles) {
                 final BlockPos tePOS = te.getPos();
                 dst.addTile(tePOS.getX() - this.x_offset, tePOS.getY() - this.y_offset, tePOS.getZ() - this.z_offset, te, this, mr);
@@ -236,9 +248,19 @@ public class CachedPlane {
                 this.addTick(tePOS.getX() - dst.x_offset, tePOS.getY() - dst.y_offset, tePOS.getZ() - dst.z_offset, entry);
             }
 
+            endTime = System.nanoTime();
+            AELog.info("Tile Move Time: " + (endTime - startTime));
+
+            // relight everything first and send afterwards, so no chunk goes out before both sides are done.
+            startTime = System.nanoTime();
+            this.relightChunks();
+            dst.relightChunks();
+            endTime = System.nanoTime();
+            AELog.info("Relight Time: " + (endTime - startTime));
+
             startTime = System.nanoTime();
-            this.updateChunks();
-            dst.updateChunks();
+            this.sendChunks();
+            dst.sendChunks();
             endTime = System.nanoTime();
 
             duration = endTime - startTime;
@@ -246,6 +268,139 @@ public class CachedPlane {
         }
     }
 
+    /**
+     * Swaps every chunk section which lies completely inside the region as a whole, instead of block by block. This only
+     * works if both regions are offset by whole sections against each other.
+     *
+     * @return which sections of this plane were swapped, indexed relative to its first section, or null if none were
+     */
+    private boolean[][][] swapSections(final CachedPlane dst) {
+        final int dx = dst.x_offset - this.x_offset;
+        final int dy = dst.y_offset - this.y_offset;
+        final int dz = dst.z_offset - this.z_offset;
+
+        if ((dx & 15) != 0 || (dy & 15) != 0 || (dz & 15) != 0) {
+            return null;
+        }
+
+        final int minCX = this.x_offset >> 4;
+        final int minCY = this.y_offset >> 4;
+        final int minCZ = this.z_offset >> 4;
+        final int cy_size = ((this.y_offset + this.y_size - 1) >> 4) - minCY + 1;
+
+        final boolean[][][] swapped = new boolean[this.cx_size][cy_size][this.cz_size];
+        final boolean sameSkyLight = this.world.provider.hasSkyLight() == dst.world.provider.hasSkyLight();
+        boolean any = false;
+
+        for (int cx = 0; cx < this.cx_size; cx++) {
+            for (int cz = 0; cz < this.cz_size; cz++) {
+                for (int cy = 0; cy < cy_size; cy++) {
+                    // local coordinates of the section's first block.
+                    final int x = ((minCX + cx) << 4) - this.x_offset;
+                    final int y = ((minCY + cy) << 4) - this.y_offset;
+                    final int z = ((minCZ + cz) << 4) - this.z_offset;
+
+                    if (x < 0 || y < 0 || z < 0 || x + 16 > this.x_size || y + 16 > this.y_size || z + 16 > this.z_size) {
+                        continue;
+                    }
+
+                    if (!this.isSectionMovable(x, y, z) || !dst.isSectionMovable(x, y, z)) {
+                        continue;
+                    }
+
+                    final ExtendedBlockStorage[] a = this.myChunks[cx][cz].getBlockStorageArray();
+                    final ExtendedBlockStorage[] b = dst.getChunkAt(x, z).getBlockStorageArray();
+                    final int ay = (y + this.y_offset) >> 4;
+                    final int by = (y + dst.y_offset) >> 4;
+
+                    // the sections keep their height and their sky light array, so only matching ones can change places.
+                    if (ay == by && sameSkyLight) {
+                        final ExtendedBlockStorage tmp = a[ay];
+                        a[ay] = b[by];
+                        b[by] = tmp;
+                    } else {
+                        swapSectionData(a[ay], b[by]);
+                    }
+
+                    this.clearMatrixFrames(a[ay]);
+                    dst.clearMatrixFrames(b[by]);
+
+                    swapped[cx][cy][cz] = true;
+                    any = true;
+                }
+            }
+        }
+
+        return any ? swapped : null;
+    }
+
+    private boolean isInSwappedSection(final boolean[][][] swapped, final int x, final int y, final int z) {
+        final int cx = ((x + this.x_offset) >> 4) - (this.x_offset >> 4);
+        final int cy = ((y + this.y_offset) >> 4) - (this.y_offset >> 4);
+        final int cz = ((z + this.z_offset) >> 4) - (this.z_offset >> 4);
+        return swapped[cx][cy][cz];
+    }
+
+    private boolean isSectionMovable(final int x, final int y, final int z) {
+        for (int ax = x; ax < x + 16; ax++) {
+            for (int az = z; az < z + 16; az++) {
+                final Column c = this.myColumns[ax][az];
+                for (int ay = y; ay < y + 16; ay++) {
+                    if (!c.doNotSkip(ay + this.y_offset)) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private Chunk getChunkAt(final int x, final int z) {
+        return this.myChunks[((x + this.x_offset) >> 4) - (this.x_offset >> 4)][((z + this.z_offset) >> 4) - (this.z_offset >> 4)];
+    }
+
+    private static void swapSectionData(final ExtendedBlockStorage a, final ExtendedBlockStorage b) {
+        final byte[] aIds = new byte[4096];
+        final NibbleArray aMeta = new NibbleArray();
+        final NibbleArray aExt = a.getData().getDataForNBT(aIds, aMeta);
+
+        final byte[] bIds = new byte[4096];
+        final NibbleArray bMeta = new NibbleArray();
+        final NibbleArray bExt = b.getData().getDataForNBT(bIds, bMeta);
+
+        a.getData().setDataFromNBT(bIds, bMeta, bExt);
+        b.getData().setDataFromNBT(aIds, aMeta, aExt);
+
+        final NibbleArray aLight = a.getBlockLight();
+        a.setBlockLight(b.getBlockLight());
+        b.setBlockLight(aLight);
+
+        a.recalculateRefCounts();
+        b.recalculateRefCounts();
+    }
+
+    private void clearMatrixFrames(final ExtendedBlockStorage storage) {
+        if (this.matrixBlockState == null || storage.isEmpty()) {
+            return;
+        }
+
+        boolean changed = false;
+        for (int y = 0; y < 16; y++) {
+            for (int z = 0; z < 16; z++) {
+                for (int x = 0; x < 16; x++) {
+                    if (storage.get(x, y, z) == this.matrixBlockState) {
+                        storage.set(x, y, z, Platform.AIR_BLOCK.getDefaultState());
+                        changed = true;
+                    }
+                }
+            }
+        }
+
+        if (changed) {
+            storage.recalculateRefCounts();
+        }
+    }
+
     private void markForUpdate(final int x, final int y, final int z) {
         this.updates.add(new WorldCoord(x, y, z));
         for (final AEPartLocation d : AEPartLocation.SIDE_LOCATIONS) {
@@ -292,9 +447,7 @@ public class CachedPlane {
         }
     }
 
-    private void updateChunks() {
-
-        // update shit..
+    private void relightChunks() {
         for (int x = 0; x < this.cx_size; x++) {
             for (int z = 0; z < this.cz_size; z++) {
                 final Chunk c = this.myChunks[x][z];
@@ -303,8 +456,9 @@ public class CachedPlane {
                 c.setModified(true);
             }
         }
+    }
 
-        // send shit...
+    private void sendChunks() {
         for (int x = 0; x < this.cx_size; x++) {
             for (int z = 0; z < this.cz_size; z++) {
 
@@ -32,6 +32,7 @@ import appeng.helpers.ICustomNameObject;
 import appeng.helpers.IPriorityHost;
 import appeng.hooks.TickHandler;
 import appeng.tile.inventory.AppEngInternalAEInventory;
+import appeng.util.NeighborCache;
 import appeng.util.Platform;
 import appeng.util.SettingsFrom;
 import io.netty.buffer.ByteBuf;
@@ -47,6 +48,7 @@ import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
 import net.minecraftforge.fluids.capability.IFluidHandler;
 import net.minecraftforge.items.IItemHandler;
 
@@ -70,6 +72,8 @@ public class AEBaseTile extends TileEntity implements IOrientable, ICommonTile,
     private EnumFacing up = null;
     private IBlockState state;
     private boolean markDirtyQueued = false;
+    private boolean updateQueued = false;
+    private NeighborCache neighborCache;
 
     @Override
     public boolean shouldRefresh(final World world, final BlockPos pos, final IBlockState oldState, final IBlockState newSate) {
@@ -85,6 +89,20 @@ public class AEBaseTile extends TileEntity implements IOrientable, ICommonTile,
         return what == null || what.get() != this;
     }
 
+    @Nonnull
+    public NeighborCache getNeighborCache() {
+        if (this.neighborCache == null) {
+            this.neighborCache = new NeighborCache(this);
+        }
+        return this.neighborCache;
+    }
+
+    public void invalidateNeighborCache() {
+        if (this.neighborCache != null) {
+            this.neighborCache.invalidate();
+        }
+    }
+
     public boolean notLoaded() {
         return !this.world.isBlockLoaded(this.pos);
     }
@@ -167,8 +185,17 @@ public class AEBaseTile extends TileEntity implements IOrientable, ICommonTile,
      * If the tile entity doesn't need update syncs, it returns null.
      */
     private NBTTagCompound writeUpdateData() {
+        final byte[] payload = this.writeUpdatePayload();
+        if (payload == null) {
+            return null;
+        }
+
         final NBTTagCompound data = new NBTTagCompound();
+        data.setByteArray("X", payload);
+        return data;
+    }
 
+    private byte[] writeUpdatePayload() {
         final ByteBuf stream = Unpooled.buffer();
 
         try {
@@ -181,8 +208,7 @@ public class AEBaseTile extends TileEntity implements IOrientable, ICommonTile,
         }
 
         stream.capacity(stream.readableBytes());
-        data.setByteArray("X", stream.array());
-        return data;
+        return stream.array();
     }
 
     private boolean readUpdateData(ByteBuf stream) {
@@ -233,6 +259,29 @@ public class AEBaseTile extends TileEntity implements IOrientable, ICommonTile,
         }
     }
 
+    /**
+     * Called at the end of the server tick for tiles queued by {@link #markForUpdate()}.
+     *
+     * @return the current update data, or null if the tile syncs nothing
+     */
+    public byte[] takeUpdatePayload() {
+        this.dequeueUpdate();
+        return this.writeUpdatePayload();
+    }
+
+    public void dequeueUpdate() {
+        this.updateQueued = false;
+    }
+
+    /**
+     * Client side counterpart of {@link #takeUpdatePayload()}.
+     */
+    public void handleUpdatePayload(final ByteBuf stream) {
+        if (stream.readableBytes() == 0 || this.readUpdateData(stream)) {
+            this.markForUpdate();
+        }
+    }
+
     protected boolean readFromStream(final ByteBuf data) throws IOException {
         if (this.canBeRotated()) {
             final EnumFacing old_Forward = this.forward;
@@ -258,10 +307,18 @@ public class AEBaseTile extends TileEntity implements IOrientable, ICommonTile,
         if (this.renderFragment > 0) {
             this.renderFragment |= 1;
         } else {
-            // TODO: Optimize Network Load
             if (this.world != null) {
                 AELog.blockUpdate(this.pos, this);
-                this.world.notifyBlockUpdate(this.pos, this.getBlockState(), this.getBlockState(), 3);
+
+                // Serverside the updates are sent once per tick, batched by chunk
+                if (this.world instanceof WorldServer server) {
+                    if (!this.updateQueued) {
+                        this.updateQueued = true;
+                        TickHandler.INSTANCE.addTileUpdate(server, this);
+                    }
+                } else {
+                    this.world.notifyBlockUpdate(this.pos, this.getBlockState(), this.getBlockState(), 3);
+                }
             }
         }
     }
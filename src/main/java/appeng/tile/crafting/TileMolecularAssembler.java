@@ -74,6 +74,7 @@ import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
 import net.minecraftforge.fml.common.network.NetworkRegistry.TargetPoint;
 import net.minecraftforge.items.IItemHandler;
+import net.minecraftforge.items.ItemHandlerHelper;
 
 import java.io.IOException;
 import java.util.EnumMap;
@@ -221,10 +222,76 @@ public class TileMolecularAssembler extends AENetworkInvTile implements IUpgrade
                 this.saveChanges();
                 return true;
             }
+
+            // more copies of the current plan are stacked up and crafted together
+            if (this.forcePlan && patternDetails.equals(this.myPlan) && this.canBatch(patternDetails, table)) {
+                for (int x = 0; x < table.getSizeInventory(); x++) {
+                    final ItemStack is = table.getStackInSlot(x);
+                    if (!is.isEmpty()) {
+                        final ItemStack held = this.gridInv.getStackInSlot(x);
+                        this.gridInv.setStackInSlot(x, ItemHandlerHelper.copyStackWithSize(held, held.getCount() + is.getCount()));
+                    }
+                }
+
+                this.saveChanges();
+                return true;
+            }
         }
         return false;
     }
 
+    /**
+     * A batch is only extended before crafting started, so the power drawn matches the number of crafts, and never with
+     * container items, which would have to share their slot with the remaining inputs.
+     */
+    private boolean canBatch(final ICraftingPatternDetails patternDetails, final InventoryCrafting table) {
+        if (this.progress > 0 || !this.gridInv.getStackInSlot(9).isEmpty()) {
+            return false;
+        }
+
+        final int batch = this.getBatchSize();
+        if (batch >= 1 + this.upgrades.getInstalledUpgrades(Upgrades.SPEED)) {
+            return false;
+        }
+
+        final IAEItemStack[] outputs = patternDetails.getOutputs();
+        if (outputs.length == 0 || outputs[0].getStackSize() * (batch + 1) > outputs[0].getDefinition().getMaxStackSize()) {
+            return false;
+        }
+
+        for (int x = 0; x < table.getSizeInventory(); x++) {
+            final ItemStack is = table.getStackInSlot(x);
+            final ItemStack held = this.gridInv.getStackInSlot(x);
+
+            if (is.isEmpty() != held.isEmpty()) {
+                return false;
+            }
+
+            if (!is.isEmpty() && (is.getItem().hasContainerItem(is) || !ItemHandlerHelper.canItemStacksStack(is, held) || held.getCount() + is
+                    .getCount() > held.getMaxStackSize())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * @return the number of complete input sets in the crafting grid, at least 1
+     */
+    private int getBatchSize() {
+        int batch = Integer.MAX_VALUE;
+
+        for (int x = 0; x < 9; x++) {
+            final ItemStack is = this.gridInv.getStackInSlot(x);
+            if (!is.isEmpty()) {
+                batch = Math.min(batch, is.getCount());
+            }
+        }
+
+        return batch == Integer.MAX_VALUE ? 1 : batch;
+    }
+
     private void updateSleepiness() {
         final boolean wasEnabled = this.isAwake;
         this.isAwake = this.canPush() || this.myPlan != null && this.hasMats();
@@ -460,40 +527,49 @@ public class TileMolecularAssembler extends AENetworkInvTile implements IUpgrade
         }
 
         this.reboot = false;
+        final int batch = this.getBatchSize();
         int speed = 10;
         switch (this.upgrades.getInstalledUpgrades(Upgrades.SPEED)) {
             case 0:
-                this.progress += this.userPower(ticksSinceLastCall, speed = 10, 1.0);
+                this.progress += this.userPower(ticksSinceLastCall, speed = 10, 1.0, batch);
                 break;
             case 1:
-                this.progress += this.userPower(ticksSinceLastCall, speed = 13, 1.3);
+                this.progress += this.userPower(ticksSinceLastCall, speed = 13, 1.3, batch);
                 break;
             case 2:
-                this.progress += this.userPower(ticksSinceLastCall, speed = 17, 1.7);
+                this.progress += this.userPower(ticksSinceLastCall, speed = 17, 1.7, batch);
                 break;
             case 3:
-                this.progress += this.userPower(ticksSinceLastCall, speed = 20, 2.0);
+                this.progress += this.userPower(ticksSinceLastCall, speed = 20, 2.0, batch);
                 break;
             case 4:
-                this.progress += this.userPower(ticksSinceLastCall, speed = 25, 2.5);
+                this.progress += this.userPower(ticksSinceLastCall, speed = 25, 2.5, batch);
                 break;
             case 5:
-                this.progress += this.userPower(ticksSinceLastCall, speed = 50, 5.0);
+                this.progress += this.userPower(ticksSinceLastCall, speed = 50, 5.0, batch);
                 break;
         }
 
         if (this.progress >= 100) {
+            // the whole batch is validated and crafted through a single copy of each input
             for (int x = 0; x < this.craftingInv.getSizeInventory(); x++) {
-                this.craftingInv.setInventorySlotContents(x, this.gridInv.getStackInSlot(x));
+                final ItemStack is = this.gridInv.getStackInSlot(x);
+                this.craftingInv.setInventorySlotContents(x, is.isEmpty() ? ItemStack.EMPTY : ItemHandlerHelper.copyStackWithSize(is, 1));
             }
 
             this.progress = 0;
-            final ItemStack output = this.myPlan.getOutput(this.craftingInv, this.getWorld());
+            ItemStack output = this.myPlan.getOutput(this.craftingInv, this.getWorld());
             if (!output.isEmpty()) {
-                this.pushOut(output);
+                output = ItemHandlerHelper.copyStackWithSize(output, output.getCount() * batch);
+                this.pushOut(output.copy());
 
                 for (int x = 0; x < this.craftingInv.getSizeInventory(); x++) {
-                    this.gridInv.setStackInSlot(x, Platform.getContainerItem(this.craftingInv.getStackInSlot(x)));
+                    final ItemStack held = this.gridInv.getStackInSlot(x);
+                    if (held.getCount() > batch) {
+                        this.gridInv.setStackInSlot(x, ItemHandlerHelper.copyStackWithSize(held, held.getCount() - batch));
+                    } else {
+                        this.gridInv.setStackInSlot(x, Platform.getContainerItem(this.craftingInv.getStackInSlot(x)));
+                    }
                 }
 
                 if (ItemHandlerUtil.isEmpty(this.patternInv)) {
@@ -537,9 +613,12 @@ public class TileMolecularAssembler extends AENetworkInvTile implements IUpgrade
         }
     }
 
-    private int userPower(final int ticksPassed, final int bonusValue, final double acceleratorTax) {
+    /**
+     * A batch progresses as fast as a single craft, while drawing the power of each craft in it.
+     */
+    private int userPower(final int ticksPassed, final int bonusValue, final double acceleratorTax, final int batch) {
         try {
-            return (int) (this.getProxy().getEnergy().extractAEPower(ticksPassed * bonusValue * acceleratorTax, Actionable.MODULATE, PowerMultiplier.CONFIG) / acceleratorTax);
+            return (int) (this.getProxy().getEnergy().extractAEPower(ticksPassed * bonusValue * acceleratorTax * batch, Actionable.MODULATE, PowerMultiplier.CONFIG) / acceleratorTax / batch);
         } catch (final GridAccessException e) {
             return 0;
         }
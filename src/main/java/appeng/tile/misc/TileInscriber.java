@@ -280,7 +280,7 @@ public class TileInscriber extends AENetworkPowerTile implements IGridTickable,
             return this.makeNamePressRecipe(input, plateB, plateA);
         }
 
-        for (final IInscriberRecipe recipe : AEApi.instance().registries().inscriber().getRecipes()) {
+        for (final IInscriberRecipe recipe : AEApi.instance().registries().inscriber().getRecipesForInput(input)) {
 
             // Check if plateA matches any item in the list of top components of the recipe
             final boolean matchA = plateA.isEmpty() && recipe.getTopInputs().isEmpty() ||
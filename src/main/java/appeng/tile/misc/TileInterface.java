@@ -88,7 +88,7 @@ public class TileInterface extends AENetworkInvTile implements IGridTickable, II
 
     @MENetworkEventSubscribe
     public void stateChange(final MENetworkPowerStatusChange c) {
-        this.duality.notifyNeighbors();
+        this.duality.onPowerStatusChange();
     }
 
     public void setSide(final EnumFacing facing) {
@@ -219,6 +219,13 @@ public class TileSecurityStation extends AENetworkTile implements ITerminalHost,
         if (Platform.isServer()) {
             this.isActive = true;
             MinecraftForge.EVENT_BUS.post(new LocatableEventAnnounce(this, LocatableEvent.REGISTER));
+
+            // isSecurityEnabled changed after the node joined the grid
+            try {
+                this.getProxy().getGrid().postEvent(new MENetworkSecurityChange());
+            } catch (final GridAccessException e) {
+                // :P
+            }
         }
     }
 
@@ -32,6 +32,7 @@ import appeng.api.util.AEPartLocation;
 import appeng.api.util.DimensionalCoord;
 import appeng.core.AEConfig;
 import appeng.me.GridAccessException;
+import appeng.me.cache.WirelessGridCache;
 import appeng.tile.grid.AENetworkInvTile;
 import appeng.tile.inventory.AppEngInternalInventory;
 import appeng.util.Platform;
@@ -123,7 +124,12 @@ public class TileWireless extends AENetworkInvTile implements IWirelessAccessPoi
 
     @Override
     public void onChangeInventory(final IItemHandler inv, final int slot, final InvOperation mc, final ItemStack removed, final ItemStack added) {
-        // :P
+        try {
+            final WirelessGridCache wc = this.getProxy().getGrid().getCache(WirelessGridCache.class);
+            wc.updateAccessPoint(this);
+        } catch (final GridAccessException e) {
+            // :P
+        }
     }
 
     @Override
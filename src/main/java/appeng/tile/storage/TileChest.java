@@ -40,6 +40,7 @@ import appeng.api.storage.channels.IItemStorageChannel;
 import appeng.api.storage.data.IAEFluidStack;
 import appeng.api.storage.data.IAEItemStack;
 import appeng.api.storage.data.IAEStack;
+import appeng.api.storage.data.IItemList;
 import appeng.api.util.AEColor;
 import appeng.api.util.IConfigManager;
 import appeng.capabilities.Capabilities;
@@ -78,6 +79,7 @@ import net.minecraftforge.items.IItemHandler;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -644,6 +646,24 @@ public class TileChest extends AENetworkPowerTile implements IMEChest, ITerminal
             }
             return extracted;
         }
+
+        @Override
+        public IItemList<T> extractItems(final IItemList<T> requests, final Actionable mode, final IActionSource src) {
+            if (src.player().map(player -> !this.securityCheck(player, SecurityPermissions.EXTRACT)).orElse(false)) {
+                return this.getChannel().createList();
+            }
+            final IItemList<T> extracted = super.extractItems(requests, mode, src);
+            if (mode == Actionable.MODULATE && !extracted.isEmpty()) {
+                if (TileChest.this.isPowered() && this.getInternalHandler().getCellInv() != null) {
+                    final List<T> changes = new ArrayList<>();
+                    for (final T is : extracted) {
+                        changes.add(is.copy().setStackSize(-is.getStackSize()));
+                    }
+                    TileChest.this.cellHandler.postChangesToListeners(changes, TileChest.this.mySrc);
+                }
+            }
+            return extracted;
+        }
     }
 
     @Override
@@ -0,0 +1,148 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.util;
+
+
+import appeng.tile.AEBaseTile;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+
+import javax.annotation.Nullable;
+
+
+/**
+ * Remembers the tile entities next to a tile and the {@link InventoryAdaptor} for the face pointing back at it, so
+ * buses and interfaces do not have to look them up in the chunk and query their capabilities on every operation.
+ * <p>
+ * Entries are dropped by {@link #invalidate()} when a neighbour changes, and are looked up again on their own when the
+ * cached tile was removed or its chunk unloaded.
+ */
+public final class NeighborCache {
+
+    private static final int SIDES = EnumFacing.values().length;
+
+    private final TileEntity host;
+    private final TileEntity[] tiles = new TileEntity[SIDES];
+    private final Chunk[] chunks = new Chunk[SIDES];
+    private final InventoryAdaptor[] adaptors = new InventoryAdaptor[SIDES];
+    private int known = 0;
+    private int adapted = 0;
+
+    public NeighborCache(final TileEntity host) {
+        this.host = host;
+    }
+
+    /**
+     * Uses the cache of AE tiles, other hosts fall back to a plain lookup.
+     */
+    @Nullable
+    public static TileEntity getTileEntity(final TileEntity host, final EnumFacing side) {
+        if (host instanceof AEBaseTile) {
+            return ((AEBaseTile) host).getNeighborCache().getTileEntity(side);
+        }
+
+        return host.getWorld().getTileEntity(host.getPos().offset(side));
+    }
+
+    /**
+     * Uses the cache of AE tiles, other hosts fall back to a plain lookup.
+     */
+    @Nullable
+    public static InventoryAdaptor getAdaptor(final TileEntity host, final EnumFacing side) {
+        if (host instanceof AEBaseTile) {
+            return ((AEBaseTile) host).getNeighborCache().getAdaptor(side);
+        }
+
+        return InventoryAdaptor.getAdaptor(getTileEntity(host, side), side.getOpposite());
+    }
+
+    @Nullable
+    public TileEntity getTileEntity(final EnumFacing side) {
+        final int i = side.ordinal();
+
+        if (this.isStale(i)) {
+            this.refresh(i, side);
+        }
+
+        return this.tiles[i];
+    }
+
+    @Nullable
+    public InventoryAdaptor getAdaptor(final EnumFacing side) {
+        final int i = side.ordinal();
+        final TileEntity te = this.getTileEntity(side);
+
+        if ((this.adapted & (1 << i)) == 0) {
+            this.adaptors[i] = InventoryAdaptor.getAdaptor(te, side.getOpposite());
+
+            // neighbours in unloaded chunks are not remembered, so neither is their missing adaptor.
+            if ((this.known & (1 << i)) != 0) {
+                this.adapted |= 1 << i;
+            }
+        }
+
+        return this.adaptors[i];
+    }
+
+    public void invalidate() {
+        this.known = 0;
+        this.adapted = 0;
+
+        for (int i = 0; i < SIDES; i++) {
+            this.tiles[i] = null;
+            this.chunks[i] = null;
+            this.adaptors[i] = null;
+        }
+    }
+
+    private boolean isStale(final int i) {
+        if ((this.known & (1 << i)) == 0) {
+            return true;
+        }
+
+        final TileEntity te = this.tiles[i];
+        return (te != null && te.isInvalid()) || !this.chunks[i].isLoaded();
+    }
+
+    private void refresh(final int i, final EnumFacing side) {
+        this.known &= ~(1 << i);
+        this.adapted &= ~(1 << i);
+        this.tiles[i] = null;
+        this.chunks[i] = null;
+        this.adaptors[i] = null;
+
+        final World w = this.host.getWorld();
+        if (w == null) {
+            return;
+        }
+
+        final BlockPos pos = this.host.getPos().offset(side);
+        final Chunk chunk = w.getChunkProvider().getLoadedChunk(pos.getX() >> 4, pos.getZ() >> 4);
+        if (chunk == null) {
+            return;
+        }
+
+        this.tiles[i] = w.getTileEntity(pos);
+        this.chunks[i] = chunk;
+        this.known |= 1 << i;
+    }
+}
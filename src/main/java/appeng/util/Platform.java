@@ -61,6 +61,8 @@ import appeng.integration.modules.bogosorter.InventoryBogoSortModule;
 import appeng.integration.modules.gregtech.ToolClass;
 import appeng.me.GridAccessException;
 import appeng.me.GridNode;
+import appeng.me.cache.EnergyGridCache;
+import appeng.me.helpers.ChannelPowerSrc;
 import appeng.me.helpers.AENetworkProxy;
 import appeng.util.helpers.ItemComparisonHelper;
 import appeng.util.helpers.P2PHelper;
@@ -1062,6 +1064,28 @@ public class Platform {
         Preconditions.checkNotNull(src);
         Preconditions.checkNotNull(mode);
 
+        final double energyFactor = Math.max(1.0, cell.getChannel().transferFactor());
+
+        final EnergyGridCache grid = mode == Actionable.MODULATE ? getRefundableGrid(energy) : null;
+        if (grid != null && grid.canReserveAEPower(request.getStackSize() / energyFactor, PowerMultiplier.CONFIG)) {
+            // pay for the whole request up front and give back what was not moved, this saves the simulated pass.
+            final double reserved = energy.extractAEPower(request.getStackSize() / energyFactor, Actionable.MODULATE, PowerMultiplier.CONFIG);
+            final long itemToExtract = Math.min((long) ((reserved * energyFactor) + 0.9), request.getStackSize());
+
+            T ret = null;
+            if (itemToExtract > 0) {
+                ret = cell.extractItems(request.copy().setStackSize(itemToExtract), Actionable.MODULATE, src);
+            }
+
+            final long extracted = ret == null ? 0 : ret.getStackSize();
+            grid.refundAEPower(reserved - extracted / energyFactor, PowerMultiplier.CONFIG);
+
+            if (ret != null) {
+                src.player().ifPresent(player -> Stats.ItemsExtracted.addToPlayer(player, (int) extracted));
+            }
+            return ret;
+        }
+
         final T possible = cell.extractItems(request.copy(), Actionable.SIMULATE, src);
 
         long retrieved = 0;
@@ -1069,7 +1093,6 @@ public class Platform {
             retrieved = possible.getStackSize();
         }
 
-        final double energyFactor = Math.max(1.0, cell.getChannel().transferFactor());
         final double availablePower = energy.extractAEPower(retrieved / energyFactor, Actionable.SIMULATE, PowerMultiplier.CONFIG);
         final long itemToExtract = Math.min((long) ((availablePower * energyFactor) + 0.9), retrieved);
 
@@ -1102,6 +1125,35 @@ public class Platform {
         Preconditions.checkNotNull(src);
         Preconditions.checkNotNull(mode);
 
+        final double energyFactor = Math.max(1.0, cell.getChannel().transferFactor());
+
+        final EnergyGridCache grid = mode == Actionable.MODULATE ? getRefundableGrid(energy) : null;
+        if (grid != null && grid.canReserveAEPower(input.getStackSize() / energyFactor, PowerMultiplier.CONFIG)) {
+            // pay for the whole input up front and give back what was not stored, this saves the simulated pass.
+            final long original = input.getStackSize();
+            final double reserved = energy.extractAEPower(original / energyFactor, Actionable.MODULATE, PowerMultiplier.CONFIG);
+            final long itemToAdd = Math.min((long) ((reserved * energyFactor) + 0.9), original);
+
+            if (itemToAdd <= 0) {
+                grid.refundAEPower(reserved, PowerMultiplier.CONFIG);
+                return input;
+            }
+
+            final T notStored = cell.injectItems(itemToAdd < original ? input.copy().setStackSize(itemToAdd) : input, Actionable.MODULATE, src);
+            final long stored = itemToAdd - (notStored == null ? 0 : notStored.getStackSize());
+            grid.refundAEPower(reserved - stored / energyFactor, PowerMultiplier.CONFIG);
+
+            src.player().ifPresent(player -> Stats.ItemsInserted.addToPlayer(player, (int) stored));
+
+            if (stored == original) {
+                return null;
+            }
+            if (itemToAdd == original) {
+                return notStored;
+            }
+            return input.copy().setStackSize(original - stored);
+        }
+
         final T possible = cell.injectItems(input, Actionable.SIMULATE, src);
 
         long stored = input.getStackSize();
@@ -1109,7 +1161,6 @@ public class Platform {
             stored -= possible.getStackSize();
         }
 
-        final double energyFactor = Math.max(1.0, cell.getChannel().transferFactor());
         final double availablePower = energy.extractAEPower(stored / energyFactor, Actionable.SIMULATE, PowerMultiplier.CONFIG);
         final long itemToAdd = Math.min((long) ((availablePower * energyFactor) + 0.9), stored);
 
@@ -1152,6 +1203,15 @@ public class Platform {
         return input;
     }
 
+    /**
+     * @return the energy grid behind the source if unused power can be given back to it, otherwise null
+     */
+    @Nullable
+    private static EnergyGridCache getRefundableGrid(final IEnergySource energy) {
+        final IEnergySource real = energy instanceof ChannelPowerSrc ? ((ChannelPowerSrc) energy).getRealSource() : energy;
+        return real instanceof EnergyGridCache ? (EnergyGridCache) real : null;
+    }
+
     @SuppressWarnings({"rawtypes", "unchecked"})
     public static void postChanges(final IStorageGrid gs, final ItemStack removed, final ItemStack added, final IActionSource src) {
         for (final IStorageChannel<?> chan : AEApi.instance().storage().storageChannels()) {
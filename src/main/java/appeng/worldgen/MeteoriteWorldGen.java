@@ -26,6 +26,7 @@ import appeng.core.worlddata.WorldData;
 import appeng.hooks.TickHandler;
 import appeng.util.IWorldCallable;
 import appeng.util.Platform;
+import appeng.worldgen.meteorite.BufferedWorld;
 import appeng.worldgen.meteorite.ChunkOnly;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.world.World;
@@ -54,7 +55,7 @@ public final class MeteoriteWorldGen implements IWorldGenerator {
         for (int tries = 0; tries < 20; tries++) {
             final MeteoritePlacer mp = new MeteoritePlacer();
 
-            if (mp.spawnMeteorite(new ChunkOnly(w, x >> 4, z >> 4), x, depth, z)) {
+            if (mp.spawnMeteorite(new BufferedWorld(new ChunkOnly(w, x >> 4, z >> 4)), x, depth, z)) {
                 final int px = x >> 4;
                 final int pz = z >> 4;
 
@@ -67,7 +68,7 @@ public final class MeteoriteWorldGen implements IWorldGenerator {
 
                             if (WorldData.instance().spawnData().hasGenerated(w.provider.getDimension(), cx, cz)) {
                                 final MeteoritePlacer mp2 = new MeteoritePlacer();
-                                mp2.spawnMeteorite(new ChunkOnly(w, cx, cz), mp.getSettings());
+                                mp2.spawnMeteorite(new BufferedWorld(new ChunkOnly(w, cx, cz)), mp.getSettings());
                             }
                         }
                     }
@@ -111,7 +112,7 @@ public final class MeteoriteWorldGen implements IWorldGenerator {
             // near by meteorites!
             for (final NBTTagCompound data : MeteoriteWorldGen.this.getNearByMeteorites(world, chunkX, chunkZ)) {
                 final MeteoritePlacer mp = new MeteoritePlacer();
-                mp.spawnMeteorite(new ChunkOnly(world, chunkX, chunkZ), data);
+                mp.spawnMeteorite(new BufferedWorld(new ChunkOnly(world, chunkX, chunkZ)), data);
 
                 minSqDist = Math.min(minSqDist, mp.getSqDistance(this.x, this.z));
             }
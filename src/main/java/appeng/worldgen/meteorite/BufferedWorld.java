@@ -0,0 +1,284 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.worldgen.meteorite;
+
+
+import appeng.core.worlddata.WorldData;
+import appeng.util.Platform;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.EnumSkyBlock;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+
+
+/**
+ * Plans a meteorite in memory and writes it into the chunk sections in one pass when it is {@link #done()}.
+ * <p>
+ * Placing through the world costs a light update, neighbour updates and a client packet for every single block. Here
+ * the blocks go straight into the section storage, the sky light is regenerated once per chunk and only light sources
+ * get a block light update. Neighbours are not notified, just like with the decoration of new chunks. Blocks with a
+ * tile entity are still placed through the wrapped world right away, as the placer fills them directly afterwards.
+ */
+public class BufferedWorld implements IMeteoriteWorld {
+
+    private final StandardWorld target;
+    private final Long2ObjectOpenHashMap<Section> sections = new Long2ObjectOpenHashMap<>();
+    private Section last;
+
+    public BufferedWorld(final StandardWorld target) {
+        this.target = target;
+    }
+
+    @Override
+    public int minX(final int in) {
+        return this.target.minX(in);
+    }
+
+    @Override
+    public int minZ(final int in) {
+        return this.target.minZ(in);
+    }
+
+    @Override
+    public int maxX(final int in) {
+        return this.target.maxX(in);
+    }
+
+    @Override
+    public int maxZ(final int in) {
+        return this.target.maxZ(in);
+    }
+
+    @Override
+    public boolean isNether() {
+        return this.target.isNether();
+    }
+
+    @Override
+    public Block getBlock(final int x, final int y, final int z) {
+        return this.getBlockState(x, y, z).getBlock();
+    }
+
+    @Override
+    public boolean canBlockSeeTheSky(final int x, final int y, final int z) {
+        return this.target.canBlockSeeTheSky(x, y, z);
+    }
+
+    @Override
+    public TileEntity getTileEntity(final int x, final int y, final int z) {
+        return this.target.getTileEntity(x, y, z);
+    }
+
+    @Override
+    public World getWorld() {
+        return this.target.getWorld();
+    }
+
+    @Override
+    public void setBlock(final int x, final int y, final int z, final Block blk) {
+        this.setBlock(x, y, z, blk.getDefaultState(), 3);
+    }
+
+    @Override
+    public void setBlock(final int x, final int y, final int z, final IBlockState state, final int flags) {
+        if (y < 0 || y > 255 || !this.target.range(x, y, z)) {
+            return;
+        }
+
+        if (state.getBlock().hasTileEntity(state)) {
+            final Section section = this.getSection(x, y, z, false);
+            if (section != null) {
+                section.states[index(x, y, z)] = null;
+            }
+
+            this.target.setBlock(x, y, z, state, flags);
+            return;
+        }
+
+        this.getSection(x, y, z, true).states[index(x, y, z)] = state;
+    }
+
+    @Override
+    public IBlockState getBlockState(final int x, final int y, final int z) {
+        if (!this.target.range(x, y, z)) {
+            return Blocks.AIR.getDefaultState();
+        }
+
+        if (y >= 0 && y <= 255) {
+            final Section section = this.getSection(x, y, z, false);
+            if (section != null) {
+                final IBlockState state = section.states[index(x, y, z)];
+                if (state != null) {
+                    return state;
+                }
+            }
+        }
+
+        return this.target.getBlockState(x, y, z);
+    }
+
+    @Override
+    public void done() {
+        final World w = this.getWorld();
+        final Long2IntOpenHashMap verticalBits = new Long2IntOpenHashMap();
+        final ObjectArrayList<Chunk> chunks = new ObjectArrayList<>();
+        final ObjectArrayList<BlockPos> lights = new ObjectArrayList<>();
+
+        for (final Section section : this.sections.values()) {
+            final Chunk c = w.getChunk(section.cx, section.cz);
+            final long key = ChunkPos.asLong(section.cx, section.cz);
+
+            if (!verticalBits.containsKey(key)) {
+                chunks.add(c);
+            }
+
+            if (this.apply(w, c, section, lights)) {
+                verticalBits.put(key, verticalBits.get(key) | 1 << section.cy);
+            } else if (!verticalBits.containsKey(key)) {
+                verticalBits.put(key, 0);
+            }
+        }
+
+        this.sections.clear();
+        this.last = null;
+
+        for (final Chunk c : chunks) {
+            if (verticalBits.get(ChunkPos.asLong(c.x, c.z)) != 0) {
+                c.resetRelightChecks();
+                c.generateSkylightMap();
+                c.setModified(true);
+            }
+        }
+
+        for (final BlockPos pos : lights) {
+            w.checkLightFor(EnumSkyBlock.BLOCK, pos);
+        }
+
+        for (final Chunk c : chunks) {
+            final int bits = verticalBits.get(ChunkPos.asLong(c.x, c.z));
+
+            if (bits != 0) {
+                for (int y = 1; y < 255; y += 32) {
+                    WorldData.instance().compassData().service().updateArea(w, c.x << 4, y, c.z << 4);
+                }
+
+                Platform.sendChunk(c, bits);
+            }
+        }
+
+        this.target.done();
+    }
+
+    private boolean apply(final World w, final Chunk c, final Section section, final ObjectArrayList<BlockPos> lights) {
+        final ExtendedBlockStorage[] storage = c.getBlockStorageArray();
+        boolean changed = false;
+
+        for (int i = 0; i < section.states.length; i++) {
+            final IBlockState state = section.states[i];
+            if (state == null) {
+                continue;
+            }
+
+            final int x = i & 15;
+            final int y = i >> 8;
+            final int z = (i >> 4) & 15;
+
+            ExtendedBlockStorage ebs = storage[section.cy];
+            final IBlockState old = ebs == Chunk.NULL_BLOCK_STORAGE ? Blocks.AIR.getDefaultState() : ebs.get(x, y, z);
+            if (old == state) {
+                continue;
+            }
+
+            final BlockPos pos = new BlockPos((section.cx << 4) + x, (section.cy << 4) + y, (section.cz << 4) + z);
+            final int oldLight = old.getLightValue(w, pos);
+
+            if (old.getBlock().hasTileEntity(old)) {
+                // let the chunk take care of removing the tile entity.
+                c.setBlockState(pos, state);
+            } else {
+                if (ebs == Chunk.NULL_BLOCK_STORAGE) {
+                    ebs = storage[section.cy] = new ExtendedBlockStorage(section.cy << 4, w.provider.hasSkyLight());
+                }
+
+                ebs.set(x, y, z, state);
+            }
+
+            if (oldLight != state.getLightValue(w, pos)) {
+                lights.add(pos);
+            }
+
+            changed = true;
+        }
+
+        return changed;
+    }
+
+    private Section getSection(final int x, final int y, final int z, final boolean create) {
+        final int cx = x >> 4;
+        final int cy = y >> 4;
+        final int cz = z >> 4;
+
+        final Section l = this.last;
+        if (l != null && l.cx == cx && l.cy == cy && l.cz == cz) {
+            return l;
+        }
+
+        final long key = ChunkPos.asLong(cx, cz) * 16 + cy;
+        Section section = this.sections.get(key);
+
+        if (section == null) {
+            if (!create) {
+                return null;
+            }
+
+            section = new Section(cx, cy, cz);
+            this.sections.put(key, section);
+        }
+
+        this.last = section;
+        return section;
+    }
+
+    private static int index(final int x, final int y, final int z) {
+        return (y & 15) << 8 | (z & 15) << 4 | (x & 15);
+    }
+
+    private static final class Section {
+
+        private final int cx;
+        private final int cy;
+        private final int cz;
+        private final IBlockState[] states = new IBlockState[16 * 16 * 16];
+
+        private Section(final int cx, final int cy, final int cz) {
+            this.cx = cx;
+            this.cy = cy;
+            this.cz = cz;
+        }
+    }
+}
@@ -22,6 +22,7 @@ package appeng.worldgen.meteorite;
 import appeng.util.Platform;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
@@ -69,6 +70,14 @@ public class ChunkOnly extends StandardWorld {
         return Platform.AIR_BLOCK;
     }
 
+    @Override
+    public IBlockState getBlockState(final int x, final int y, final int z) {
+        if (this.range(x, y, z)) {
+            return this.target.getBlockState(x, y, z);
+        }
+        return Blocks.AIR.getDefaultState();
+    }
+
     @Override
     public void setBlock(final int x, final int y, final int z, final Block blk) {
         if (this.range(x, y, z)) {
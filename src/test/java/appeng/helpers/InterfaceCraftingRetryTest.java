@@ -0,0 +1,219 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.helpers;
+
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import net.minecraft.item.ItemStack;
+
+import appeng.api.config.FuzzyMode;
+import appeng.api.networking.crafting.ICraftingGrid;
+import appeng.api.networking.crafting.ICraftingJob;
+import appeng.api.networking.crafting.ICraftingLink;
+import appeng.api.networking.crafting.ICraftingRequester;
+import appeng.api.storage.data.IAEItemStack;
+import appeng.api.storage.data.IItemList;
+import appeng.util.InventoryAdaptor;
+import appeng.util.inv.IInventoryDestination;
+import appeng.util.inv.ItemSlot;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+
+public final class InterfaceCraftingRetryTest
+{
+
+	@Test
+	public void testCraftIsRetriedOnceACpuFreesUp()
+	{
+		final IAEItemStack stock = stub( IAEItemStack.class, ( proxy, method, args ) -> {
+			switch( method.getName() )
+			{
+				case "createItemStack":
+					return ItemStack.EMPTY;
+				case "copy":
+				case "setStackSize":
+					return proxy;
+				case "getStackSize":
+					return 16L;
+				case "isCraftable":
+					return true;
+				default:
+					return defaultAnswer( proxy, method, args );
+			}
+		} );
+		final IItemList<IAEItemStack> craftables = stub( IItemList.class, ( proxy, method, args ) -> "findPrecise".equals( method.getName() ) ? stock : defaultAnswer( proxy, method, args ) );
+		final IAEItemStack[] requireWork = new IAEItemStack[DualityInterface.NUMBER_OF_STORAGE_SLOTS];
+		requireWork[0] = stock;
+
+		final CraftingCpus cpus = new CraftingCpus();
+		final MultiCraftingTracker tracker = new MultiCraftingTracker( stub( ICraftingRequester.class, InterfaceCraftingRetryTest::defaultAnswer ), requireWork.length );
+		final InventoryAdaptor slot = new EmptySlot();
+
+		// every crafting CPU is busy, the finished job is rejected and dropped.
+		tracker.handleCrafting( 0, 16, stock, slot, null, null, cpus.grid, null );
+		assertThat( tracker.isBusy( 0 ), is( true ) );
+		assertThat( tracker.handleCrafting( 0, 16, stock, slot, null, null, cpus.grid, null ), is( false ) );
+		assertThat( tracker.isBusy( 0 ), is( false ) );
+
+		// without a crafting card the interface may sleep, with one it has to keep polling.
+		assertThat( DualityInterface.isWaitingForNetworkStock( requireWork, tracker, null ), is( true ) );
+		assertThat( DualityInterface.isWaitingForNetworkStock( requireWork, tracker, craftables ), is( false ) );
+
+		cpus.free = 1;
+
+		tracker.handleCrafting( 0, 16, stock, slot, null, null, cpus.grid, null );
+		assertThat( tracker.handleCrafting( 0, 16, stock, slot, null, null, cpus.grid, null ), is( true ) );
+		assertThat( tracker.isBusy( 0 ), is( true ) );
+		assertThat( cpus.started, is( 2 ) );
+		assertThat( cpus.submitted, is( 1 ) );
+	}
+
+	private static <T> T stub( final Class<?> type, final InvocationHandler handler )
+	{
+		@SuppressWarnings( "unchecked" )
+		final T stub = (T) Proxy.newProxyInstance( type.getClassLoader(), new Class<?>[] { type }, handler );
+		return stub;
+	}
+
+	private static Object defaultAnswer( final Object proxy, final Method method, final Object[] args )
+	{
+		final String name = method.getName();
+		final Class<?> returnType = method.getReturnType();
+		if( "equals".equals( name ) )
+		{
+			return proxy == args[0];
+		}
+		if( "hashCode".equals( name ) )
+		{
+			return System.identityHashCode( proxy );
+		}
+		if( !returnType.isPrimitive() || returnType == void.class )
+		{
+			return null;
+		}
+		return Array.get( Array.newInstance( returnType, 1 ), 0 );
+	}
+
+	/**
+	 * A crafting grid that calculates every job at once and only accepts it while a CPU is free.
+	 */
+	private static final class CraftingCpus
+	{
+		private final ICraftingGrid grid;
+		private int free;
+		private int started;
+		private int submitted;
+
+		private CraftingCpus()
+		{
+			final ICraftingJob job = stub( ICraftingJob.class, InterfaceCraftingRetryTest::defaultAnswer );
+
+			this.grid = stub( ICraftingGrid.class, ( proxy, method, args ) -> {
+				switch( method.getName() )
+				{
+					case "beginCraftingJob":
+						this.started++;
+						return CompletableFuture.completedFuture( job );
+					case "submitJob":
+						if( this.free == 0 )
+						{
+							return null;
+						}
+						this.free--;
+						this.submitted++;
+						return stub( ICraftingLink.class, InterfaceCraftingRetryTest::defaultAnswer );
+					default:
+						return defaultAnswer( proxy, method, args );
+				}
+			} );
+		}
+	}
+
+	/**
+	 * An empty interface slot that accepts everything.
+	 */
+	private static final class EmptySlot extends InventoryAdaptor
+	{
+
+		@Override
+		public ItemStack removeItems( final int amount, final ItemStack filter, final IInventoryDestination destination )
+		{
+			return ItemStack.EMPTY;
+		}
+
+		@Override
+		public ItemStack simulateRemove( final int amount, final ItemStack filter, final IInventoryDestination destination )
+		{
+			return ItemStack.EMPTY;
+		}
+
+		@Override
+		public ItemStack removeSimilarItems( final int amount, final ItemStack filter, final FuzzyMode fuzzyMode, final IInventoryDestination destination )
+		{
+			return ItemStack.EMPTY;
+		}
+
+		@Override
+		public ItemStack simulateSimilarRemove( final int amount, final ItemStack filter, final FuzzyMode fuzzyMode, final IInventoryDestination destination )
+		{
+			return ItemStack.EMPTY;
+		}
+
+		@Override
+		public ItemStack addItems( final ItemStack toBeAdded )
+		{
+			return ItemStack.EMPTY;
+		}
+
+		@Override
+		public ItemStack simulateAdd( final ItemStack toBeSimulated )
+		{
+			return ItemStack.EMPTY;
+		}
+
+		@Override
+		public boolean containsItems()
+		{
+			return false;
+		}
+
+		@Override
+		public boolean hasSlots()
+		{
+			return true;
+		}
+
+		@Override
+		public Iterator<ItemSlot> iterator()
+		{
+			return Collections.emptyIterator();
+		}
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+
+package appeng.me.storage;
+
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import appeng.api.config.AccessRestriction;
+import appeng.api.config.Actionable;
+import appeng.api.storage.IMEMonitor;
+import appeng.api.storage.IMEMonitorHandlerReceiver;
+import appeng.api.storage.data.IItemList;
+import appeng.me.metrics.OpCounter;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+
+/**
+ * Two networks that see each other: a storage bus of the first one sits on an interface of the second one, and a
+ * storage bus of the second one on an interface of the first one.
+ */
+public final class StorageBusLoopTest
+{
+
+	@Test
+	public void testLoopedNetworksCountTheirItemsOnce()
+	{
+		final NetworkInventoryHandler<StorageTraceReplay.ReplayStack> first = createNetwork();
+		final NetworkInventoryHandler<StorageTraceReplay.ReplayStack> second = createNetwork();
+
+		final StorageTraceReplay.ReplayCell cell = new StorageTraceReplay.ReplayCell( 0, AccessRestriction.READ_WRITE, false, Long.MAX_VALUE / 16, Long.MAX_VALUE, 0, 8 );
+		cell.injectItems( new StorageTraceReplay.ReplayStack( 0, 100 ), Actionable.MODULATE, null );
+		first.getPriorityInventory().computeIfAbsent( 0, $ -> new ArrayList<>() ).add( cell );
+
+		final CachingMonitor firstMonitor = new CachingMonitor( first );
+		final CachingMonitor secondMonitor = new CachingMonitor( second );
+		first.getPriorityInventory().computeIfAbsent( 0, $ -> new ArrayList<>() ).add( storageBusOnInterfaceOf( secondMonitor ) );
+		second.getPriorityInventory().computeIfAbsent( 0, $ -> new ArrayList<>() ).add( storageBusOnInterfaceOf( firstMonitor ) );
+
+		// the monitors rebuild their lists on their own ticks, outside of any other read of the networks.
+		firstMonitor.refresh();
+		secondMonitor.refresh();
+
+		assertThat( countOf( first ), is( 100L ) );
+		assertThat( countOf( second ), is( 100L ) );
+	}
+
+	private static NetworkInventoryHandler<StorageTraceReplay.ReplayStack> createNetwork()
+	{
+		return new NetworkInventoryHandler<>( StorageTraceReplay.ReplayChannel.INSTANCE, null, new OpCounter(), new OpCounter() );
+	}
+
+	private static MEInventoryHandler<StorageTraceReplay.ReplayStack> storageBusOnInterfaceOf( final CachingMonitor monitor )
+	{
+		final MEMonitorPassThrough<StorageTraceReplay.ReplayStack> interfaceInventory = new MEMonitorPassThrough<>( monitor, StorageTraceReplay.ReplayChannel.INSTANCE );
+		return new MEInventoryHandler<>( interfaceInventory, StorageTraceReplay.ReplayChannel.INSTANCE );
+	}
+
+	private static long countOf( final NetworkInventoryHandler<StorageTraceReplay.ReplayStack> network )
+	{
+		final IItemList<StorageTraceReplay.ReplayStack> list = network.getAvailableItems( new StorageTraceReplay.ReplayList() );
+		final StorageTraceReplay.ReplayStack stack = list.findPrecise( new StorageTraceReplay.ReplayStack( 0, 1 ) );
+		return stack == null ? 0 : stack.getStackSize();
+	}
+
+	/**
+	 * Like the network monitor, its storage list is a snapshot taken from the top of the network, which includes what
+	 * the network sees through the loop.
+	 */
+	private static final class CachingMonitor extends MEPassThrough<StorageTraceReplay.ReplayStack> implements IMEMonitor<StorageTraceReplay.ReplayStack>
+	{
+
+		private IItemList<StorageTraceReplay.ReplayStack> cached = new StorageTraceReplay.ReplayList();
+
+		private CachingMonitor( final NetworkInventoryHandler<StorageTraceReplay.ReplayStack> network )
+		{
+			super( network, StorageTraceReplay.ReplayChannel.INSTANCE );
+		}
+
+		private void refresh()
+		{
+			this.cached = this.getInternal().getAvailableItems( new StorageTraceReplay.ReplayList() );
+		}
+
+		@Override
+		public IItemList<StorageTraceReplay.ReplayStack> getStorageList()
+		{
+			return this.cached;
+		}
+
+		@Override
+		public void addListener( final IMEMonitorHandlerReceiver<StorageTraceReplay.ReplayStack> l, final Object verificationToken )
+		{
+		}
+
+		@Override
+		public void removeListener( final IMEMonitorHandlerReceiver<StorageTraceReplay.ReplayStack> l )
+		{
+		}
+	}
+}
@@ -0,0 +1,802 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.storage;
+
+
+import appeng.api.config.AccessRestriction;
+import appeng.api.config.Actionable;
+import appeng.api.config.FuzzyMode;
+import appeng.api.networking.security.IActionHost;
+import appeng.api.networking.security.IActionSource;
+import appeng.api.storage.IMEInventoryHandler;
+import appeng.api.storage.IStorageChannel;
+import appeng.api.storage.data.IAEStack;
+import appeng.api.storage.data.IItemList;
+import appeng.me.metrics.OpCounter;
+import appeng.util.item.AEStack;
+import io.netty.buffer.ByteBuf;
+import it.unimi.dsi.fastutil.ints.Int2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+
+import javax.annotation.Nonnull;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+
+/**
+ * Replays a trace of {@link StorageTraceRecorder} without a running game.
+ * <p>
+ * Every recorded network is rebuilt as a {@link NetworkInventoryHandler} over in-memory cells, which follow the byte and
+ * type accounting of {@link BasicCellInventory}. Other handlers like storage buses become cells without limits. The
+ * operations are then replayed as fast as possible, and the report compares throughput and latency percentiles with
+ * the recorded ones.
+ * <p>
+ * Run with the test runtime classpath: {@code StorageTraceReplay <trace file>}
+ */
+public final class StorageTraceReplay {
+
+    private static final IActionSource SOURCE = new ReplaySource();
+
+    private final Int2ObjectOpenHashMap<NetworkInventoryHandler<ReplayStack>> networks = new Int2ObjectOpenHashMap<>();
+    private final Int2ObjectOpenHashMap<ReplayList> monitors = new Int2ObjectOpenHashMap<>();
+    private final Report report = new Report();
+
+    public static void main(final String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: StorageTraceReplay <trace file>");
+            return;
+        }
+
+        try (InputStream in = new BufferedInputStream(new FileInputStream(args[0]), 1 << 16)) {
+            System.out.print(replay(in));
+        }
+    }
+
+    public static Report replay(final InputStream in) throws IOException {
+        final StorageTraceReplay replay = new StorageTraceReplay();
+        final DataInputStream data = new DataInputStream(in);
+
+        if (data.readInt() != StorageTraceRecorder.MAGIC) {
+            throw new IOException("Not a storage trace");
+        }
+
+        if (data.readInt() != StorageTraceRecorder.VERSION) {
+            throw new IOException("Unsupported storage trace version");
+        }
+
+        final long start = System.nanoTime();
+
+        while (true) {
+            final int type = data.read();
+            if (type < 0) {
+                break;
+            }
+
+            replay.replayEvent(type, data);
+        }
+
+        replay.report.wallTime = System.nanoTime() - start;
+        return replay.report;
+    }
+
+    private void replayEvent(final int type, final DataInputStream in) throws IOException {
+        if (type == StorageTraceRecorder.LAYOUT) {
+            this.readLayout(in);
+            return;
+        }
+
+        readVar(in); // time since the previous event, the replay runs as fast as it can.
+
+        switch (type) {
+            case StorageTraceRecorder.INJECT: {
+                final long recorded = readVar(in);
+                final NetworkInventoryHandler<ReplayStack> network = this.network((int) readVar(in));
+                final Actionable mode = Actionable.values()[in.readByte()];
+                final ReplayStack input = new ReplayStack((int) readVar(in), readVar(in));
+                final long expected = readVar(in);
+
+                final long start = System.nanoTime();
+                final ReplayStack notInjected = network.injectItems(input, mode, SOURCE);
+                this.report.inject.add(System.nanoTime() - start, recorded, expected == size(notInjected));
+                break;
+            }
+            case StorageTraceRecorder.EXTRACT: {
+                final long recorded = readVar(in);
+                final NetworkInventoryHandler<ReplayStack> network = this.network((int) readVar(in));
+                final Actionable mode = Actionable.values()[in.readByte()];
+                final ReplayStack request = new ReplayStack((int) readVar(in), readVar(in));
+                final long expected = readVar(in);
+
+                final long start = System.nanoTime();
+                final ReplayStack extracted = network.extractItems(request, mode, SOURCE);
+                this.report.extract.add(System.nanoTime() - start, recorded, expected == size(extracted));
+                break;
+            }
+            case StorageTraceRecorder.EXTRACT_LIST: {
+                final long recorded = readVar(in);
+                final NetworkInventoryHandler<ReplayStack> network = this.network((int) readVar(in));
+                final Actionable mode = Actionable.values()[in.readByte()];
+                final ReplayList requests = readEntries(in, false);
+                final ReplayList expected = readEntries(in, false);
+
+                final long start = System.nanoTime();
+                final IItemList<ReplayStack> extracted = network.extractItems(requests, mode, SOURCE);
+                this.report.extractList.add(System.nanoTime() - start, recorded, sameContents(expected, extracted));
+                break;
+            }
+            case StorageTraceRecorder.POST_CHANGE: {
+                final ReplayList cache = this.monitors.computeIfAbsent((int) readVar(in), id -> new ReplayList());
+                readVar(in); // channel
+                final ReplayList changes = readEntries(in, true);
+
+                final long start = System.nanoTime();
+                for (final ReplayStack change : changes) {
+                    cache.addStorage(change);
+                }
+                this.report.postChange.add(System.nanoTime() - start, -1, true);
+                break;
+            }
+            default:
+                throw new IOException("Unknown event " + type);
+        }
+    }
+
+    private void readLayout(final DataInputStream in) throws IOException {
+        final int id = (int) readVar(in);
+        readVar(in); // channel
+
+        final NetworkInventoryHandler<ReplayStack> network = new NetworkInventoryHandler<>(ReplayChannel.INSTANCE, null, new OpCounter(), new OpCounter());
+        final int count = (int) readVar(in);
+
+        for (int i = 0; i < count; i++) {
+            final int list = in.readByte();
+            final int priority = (int) readSigned(in);
+            final AccessRestriction access = AccessRestriction.values()[in.readByte()];
+            final ReplayCell cell;
+
+            if (in.readByte() != 0) {
+                cell = new ReplayCell(priority, access, list == StorageTraceRecorder.LIST_STICKY, readVar(in), readVar(in), (int) readVar(in), (int) readVar(in));
+            } else {
+                cell = new ReplayCell(priority, access, list == StorageTraceRecorder.LIST_STICKY, Long.MAX_VALUE / 16, Long.MAX_VALUE, 0, 8);
+            }
+
+            for (final ReplayStack is : readEntries(in, false)) {
+                cell.injectItems(is, Actionable.MODULATE, SOURCE);
+            }
+
+            final NavigableMap<Integer, List<IMEInventoryHandler<ReplayStack>>> map;
+            if (list == StorageTraceRecorder.LIST_CRAFTING) {
+                map = network.getCraftingPriorityInventory();
+            } else if (list == StorageTraceRecorder.LIST_STICKY) {
+                map = network.getStickyPriorityInventory();
+            } else {
+                map = network.getPriorityInventory();
+            }
+
+            map.computeIfAbsent(priority, $ -> new ArrayList<>()).add(cell);
+        }
+
+        this.networks.put(id, network);
+        this.report.networks++;
+        this.report.handlers += count;
+    }
+
+    private NetworkInventoryHandler<ReplayStack> network(final int id) throws IOException {
+        final NetworkInventoryHandler<ReplayStack> network = this.networks.get(id);
+        if (network == null) {
+            throw new IOException("Operation on network " + id + " without a layout");
+        }
+        return network;
+    }
+
+    private static ReplayList readEntries(final DataInputStream in, final boolean signed) throws IOException {
+        final ReplayList out = new ReplayList();
+        final int count = (int) readVar(in);
+
+        for (int i = 0; i < count; i++) {
+            final int id = (int) readVar(in);
+            out.add(new ReplayStack(id, signed ? readSigned(in) : readVar(in)));
+        }
+
+        return out;
+    }
+
+    private static boolean sameContents(final ReplayList expected, final IItemList<ReplayStack> actual) {
+        int count = 0;
+        for (final ReplayStack is : actual) {
+            final ReplayStack e = expected.findPrecise(is);
+            if (e == null || e.getStackSize() != is.getStackSize()) {
+                return false;
+            }
+            count++;
+        }
+        return count == expected.size();
+    }
+
+    private static long size(final ReplayStack is) {
+        return is == null ? 0 : is.getStackSize();
+    }
+
+    private static long readVar(final DataInputStream in) throws IOException {
+        long value = 0;
+        int shift = 0;
+
+        while (true) {
+            final int b = in.read();
+            if (b < 0) {
+                throw new EOFException();
+            }
+
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+
+            shift += 7;
+        }
+    }
+
+    private static long readSigned(final DataInputStream in) throws IOException {
+        final long v = readVar(in);
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    public static final class Report {
+
+        private final Stats inject = new Stats("inject");
+        private final Stats extract = new Stats("extract");
+        private final Stats extractList = new Stats("extract list");
+        private final Stats postChange = new Stats("post change");
+        private int networks;
+        private int handlers;
+        private long wallTime;
+
+        public long getOperations() {
+            return this.inject.count() + this.extract.count() + this.extractList.count();
+        }
+
+        public long getMismatches() {
+            return this.inject.mismatches + this.extract.mismatches + this.extractList.mismatches;
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder sb = new StringBuilder();
+            sb.append(String.format("%d networks, %d handlers, %d operations in %.1f ms%n", this.networks, this.handlers, this.getOperations(), this.wallTime / 1e6));
+
+            for (final Stats s : new Stats[]{this.inject, this.extract, this.extractList, this.postChange}) {
+                s.appendTo(sb);
+            }
+
+            return sb.toString();
+        }
+    }
+
+    private static final class Stats {
+
+        private final String name;
+        private final LongArrayList replayed = new LongArrayList();
+        private final LongArrayList recorded = new LongArrayList();
+        private long mismatches;
+
+        private Stats(final String name) {
+            this.name = name;
+        }
+
+        private void add(final long nanos, final long recordedNanos, final boolean sameResult) {
+            this.replayed.add(nanos);
+
+            if (recordedNanos >= 0) {
+                this.recorded.add(recordedNanos);
+            }
+
+            if (!sameResult) {
+                this.mismatches++;
+            }
+        }
+
+        private long count() {
+            return this.replayed.size();
+        }
+
+        private void appendTo(final StringBuilder sb) {
+            if (this.replayed.isEmpty()) {
+                return;
+            }
+
+            long total = 0;
+            for (int i = 0; i < this.replayed.size(); i++) {
+                total += this.replayed.getLong(i);
+            }
+
+            sb.append(String.format("%-12s %8d ops, %10.0f ops/s, replay p50 %s p90 %s p99 %s max %s", this.name, this.replayed.size(), this.replayed.size() * 1e9 / Math.max(1, total),
+                    micros(this.replayed, 0.5), micros(this.replayed, 0.9), micros(this.replayed, 0.99), micros(this.replayed, 1)));
+
+            if (!this.recorded.isEmpty()) {
+                sb.append(String.format(", recorded p50 %s p99 %s", micros(this.recorded, 0.5), micros(this.recorded, 0.99)));
+            }
+
+            if (this.mismatches > 0) {
+                sb.append(", ").append(this.mismatches).append(" results differ");
+            }
+
+            sb.append(System.lineSeparator());
+        }
+
+        private static String micros(final LongArrayList values, final double percentile) {
+            final long[] sorted = values.toLongArray();
+            Arrays.sort(sorted);
+
+            final int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+            return String.format("%.1fus", sorted[Math.max(0, index)] / 1e3);
+        }
+    }
+
+    static final class ReplaySource implements IActionSource {
+
+        @Nonnull
+        @Override
+        public Optional<EntityPlayer> player() {
+            return Optional.empty();
+        }
+
+        @Nonnull
+        @Override
+        public Optional<IActionHost> machine() {
+            return Optional.empty();
+        }
+
+        @Nonnull
+        @Override
+        public <T> Optional<T> context(@Nonnull final Class<T> key) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * A stack that only knows its anonymous id.
+     */
+    static final class ReplayStack extends AEStack<ReplayStack> {
+
+        private final int id;
+
+        ReplayStack(final int id, final long size) {
+            this.id = id;
+            this.setStackSize(size);
+        }
+
+        @Override
+        public void add(final ReplayStack is) {
+            if (is != null) {
+                this.incStackSize(is.getStackSize());
+                this.incCountRequestable(is.getCountRequestable());
+                this.setCraftable(this.isCraftable() || is.isCraftable());
+            }
+        }
+
+        @Override
+        public boolean fuzzyComparison(final ReplayStack other, final FuzzyMode mode) {
+            return other != null && other.id == this.id;
+        }
+
+        @Override
+        public ReplayStack copy() {
+            final ReplayStack is = new ReplayStack(this.id, this.getStackSize());
+            is.setCountRequestable(this.getCountRequestable());
+            is.setCraftable(this.isCraftable());
+            return is;
+        }
+
+        @Override
+        public boolean isItem() {
+            return true;
+        }
+
+        @Override
+        public boolean isFluid() {
+            return false;
+        }
+
+        @Override
+        public IStorageChannel<ReplayStack> getChannel() {
+            return ReplayChannel.INSTANCE;
+        }
+
+        @Override
+        public ItemStack asItemStackRepresentation() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void writeToNBT(final NBTTagCompound i) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void writeToPacket(final ByteBuf data) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected boolean hasTagCompound() {
+            return false;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof ReplayStack && ((ReplayStack) obj).id == this.id;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.id;
+        }
+    }
+
+    static final class ReplayChannel implements IStorageChannel<ReplayStack> {
+
+        static final ReplayChannel INSTANCE = new ReplayChannel();
+
+        @Nonnull
+        @Override
+        public IItemList<ReplayStack> createList() {
+            return new ReplayList();
+        }
+
+        @Override
+        public ReplayStack createStack(@Nonnull final Object input) {
+            return null;
+        }
+
+        @Override
+        public ReplayStack readFromPacket(@Nonnull final ByteBuf input) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ReplayStack createFromNBT(@Nonnull final NBTTagCompound nbt) {
+            return null;
+        }
+    }
+
+    static final class ReplayList implements IItemList<ReplayStack> {
+
+        private final Int2ObjectLinkedOpenHashMap<ReplayStack> records = new Int2ObjectLinkedOpenHashMap<>();
+
+        @Override
+        public void add(final ReplayStack option) {
+            if (option == null) {
+                return;
+            }
+
+            final ReplayStack st = this.records.get(option.id);
+            if (st != null) {
+                st.add(option);
+            } else {
+                this.records.put(option.id, option.copy());
+            }
+        }
+
+        @Override
+        public ReplayStack findPrecise(final ReplayStack i) {
+            if (i == null) {
+                return null;
+            }
+
+            final ReplayStack is = this.records.get(i.id);
+            return is != null && is.isMeaningful() ? is : null;
+        }
+
+        @Override
+        public Collection<ReplayStack> findFuzzy(final ReplayStack input, final FuzzyMode fuzzy) {
+            final ReplayStack is = this.findPrecise(input);
+            return is == null ? Collections.emptyList() : Collections.singletonList(is);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return !this.iterator().hasNext();
+        }
+
+        @Override
+        public void addStorage(final ReplayStack option) {
+            if (option == null) {
+                return;
+            }
+
+            final ReplayStack st = this.records.get(option.id);
+            if (st != null) {
+                st.incStackSize(option.getStackSize());
+            } else {
+                this.records.put(option.id, option.copy());
+            }
+        }
+
+        @Override
+        public void addCrafting(final ReplayStack option) {
+            if (option == null) {
+                return;
+            }
+
+            final ReplayStack st = this.records.get(option.id);
+            if (st != null) {
+                st.setCraftable(true);
+            } else {
+                final ReplayStack is = option.copy();
+                is.setStackSize(0);
+                is.setCraftable(true);
+                this.records.put(option.id, is);
+            }
+        }
+
+        @Override
+        public void addRequestable(final ReplayStack option) {
+            if (option == null) {
+                return;
+            }
+
+            final ReplayStack st = this.records.get(option.id);
+            if (st != null) {
+                st.incCountRequestable(option.getCountRequestable());
+            } else {
+                final ReplayStack is = option.copy();
+                is.setStackSize(0);
+                this.records.put(option.id, is);
+            }
+        }
+
+        @Override
+        public ReplayStack getFirstItem() {
+            final Iterator<ReplayStack> i = this.iterator();
+            return i.hasNext() ? i.next() : null;
+        }
+
+        @Override
+        public int size() {
+            int size = 0;
+            for (final ReplayStack ignored : this) {
+                size++;
+            }
+            return size;
+        }
+
+        @Override
+        public Iterator<ReplayStack> iterator() {
+            final Iterator<ReplayStack> parent = this.records.values().iterator();
+
+            return new Iterator<ReplayStack>() {
+                private ReplayStack next = this.seek();
+
+                private ReplayStack seek() {
+                    while (parent.hasNext()) {
+                        final ReplayStack is = parent.next();
+                        if (is.isMeaningful()) {
+                            return is;
+                        }
+                        parent.remove();
+                    }
+                    return null;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return this.next != null;
+                }
+
+                @Override
+                public ReplayStack next() {
+                    if (this.next == null) {
+                        throw new NoSuchElementException();
+                    }
+
+                    final ReplayStack is = this.next;
+                    this.next = this.seek();
+                    return is;
+                }
+            };
+        }
+
+        @Override
+        public void resetStatus() {
+            for (final ReplayStack is : this) {
+                is.reset();
+            }
+        }
+    }
+
+    /**
+     * Byte and type accounting of {@link AbstractCellInventory} and {@link BasicCellInventory}, without the item stack
+     * behind it.
+     */
+    static final class ReplayCell implements IMEInventoryHandler<ReplayStack> {
+
+        private final int priority;
+        private final AccessRestriction access;
+        private final boolean sticky;
+        private final long totalBytes;
+        private final long totalTypes;
+        private final int bytesPerType;
+        private final int unitsPerByte;
+        private final ReplayList items = new ReplayList();
+        private long storedTypes;
+        private long storedCount;
+
+        ReplayCell(final int priority, final AccessRestriction access, final boolean sticky, final long totalBytes, final long totalTypes, final int bytesPerType, final int unitsPerByte) {
+            this.priority = priority;
+            this.access = access;
+            this.sticky = sticky;
+            this.totalBytes = totalBytes;
+            this.totalTypes = totalTypes;
+            this.bytesPerType = bytesPerType;
+            this.unitsPerByte = Math.max(1, unitsPerByte);
+        }
+
+        private int getUnusedItemCount() {
+            final int div = (int) (this.storedCount % this.unitsPerByte);
+            return div == 0 ? 0 : this.unitsPerByte - div;
+        }
+
+        private long getFreeBytes() {
+            final long bytesForItemCount = (this.storedCount + this.getUnusedItemCount()) / this.unitsPerByte;
+            return this.totalBytes - (this.storedTypes * this.bytesPerType + bytesForItemCount);
+        }
+
+        private long getRemainingItemCount() {
+            final long remaining = this.getFreeBytes() * this.unitsPerByte + this.getUnusedItemCount();
+            return remaining > 0 ? remaining : 0;
+        }
+
+        private boolean canHoldNewItem() {
+            final long bytesFree = this.getFreeBytes();
+            final long remainingTypes = Math.min(this.bytesPerType == 0 ? Long.MAX_VALUE : bytesFree / this.bytesPerType, this.totalTypes - this.storedTypes);
+            return (bytesFree > this.bytesPerType || (bytesFree == this.bytesPerType && this.getUnusedItemCount() > 0)) && remainingTypes > 0;
+        }
+
+        @Override
+        public ReplayStack injectItems(final ReplayStack input, final Actionable mode, final IActionSource src) {
+            if (input == null || input.getStackSize() == 0) {
+                return null;
+            }
+
+            final ReplayStack l = this.items.findPrecise(input);
+            long room;
+
+            if (l != null) {
+                room = this.getRemainingItemCount();
+            } else if (this.canHoldNewItem()) {
+                room = this.getRemainingItemCount() - (long) this.bytesPerType * this.unitsPerByte;
+            } else {
+                return input;
+            }
+
+            if (room <= 0) {
+                return input;
+            }
+
+            final long stored = Math.min(room, input.getStackSize());
+
+            if (mode == Actionable.MODULATE) {
+                if (l == null) {
+                    this.storedTypes++;
+                }
+
+                this.storedCount += stored;
+                this.items.add(new ReplayStack(input.id, stored));
+            }
+
+            if (stored == input.getStackSize()) {
+                return null;
+            }
+
+            final ReplayStack r = input.copy();
+            r.setStackSize(input.getStackSize() - stored);
+            return r;
+        }
+
+        @Override
+        public ReplayStack extractItems(final ReplayStack request, final Actionable mode, final IActionSource src) {
+            if (request == null) {
+                return null;
+            }
+
+            final ReplayStack l = this.items.findPrecise(request);
+            if (l == null) {
+                return null;
+            }
+
+            final long extracted = Math.min(l.getStackSize(), request.getStackSize());
+
+            if (mode == Actionable.MODULATE) {
+                l.decStackSize(extracted);
+                this.storedCount -= extracted;
+
+                if (l.getStackSize() <= 0) {
+                    this.storedTypes--;
+                }
+            }
+
+            return new ReplayStack(request.id, extracted);
+        }
+
+        @Override
+        public IItemList<ReplayStack> getAvailableItems(final IItemList<ReplayStack> out) {
+            for (final ReplayStack is : this.items) {
+                out.add(is);
+            }
+            return out;
+        }
+
+        @Override
+        public IStorageChannel<ReplayStack> getChannel() {
+            return ReplayChannel.INSTANCE;
+        }
+
+        @Override
+        public AccessRestriction getAccess() {
+            return this.access;
+        }
+
+        @Override
+        public boolean isPrioritized(final ReplayStack input) {
+            return false;
+        }
+
+        @Override
+        public boolean canAccept(final ReplayStack input) {
+            return this.access.hasPermission(AccessRestriction.WRITE);
+        }
+
+        @Override
+        public int getPriority() {
+            return this.priority;
+        }
+
+        @Override
+        public int getSlot() {
+            return 0;
+        }
+
+        @Override
+        public boolean validForPass(final int i) {
+            return true;
+        }
+
+        @Override
+        public boolean isSticky() {
+            return this.sticky;
+        }
+    }
+}
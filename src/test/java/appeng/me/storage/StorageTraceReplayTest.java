@@ -0,0 +1,84 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.storage;
+
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import appeng.api.config.AccessRestriction;
+import appeng.api.config.Actionable;
+import appeng.api.networking.security.IActionSource;
+import appeng.api.storage.data.IItemList;
+import appeng.me.metrics.OpCounter;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+
+public final class StorageTraceReplayTest
+{
+	private static final int TYPES = 50;
+	private static final int ROUNDS = 20;
+
+	@Test
+	public void testRecordedOperationsReplayWithSameResults() throws Exception
+	{
+		final NetworkInventoryHandler<StorageTraceReplay.ReplayStack> network = new NetworkInventoryHandler<>( StorageTraceReplay.ReplayChannel.INSTANCE, null, new OpCounter(), new OpCounter() );
+		final StorageTraceReplay.ReplayCell first = new StorageTraceReplay.ReplayCell( 1, AccessRestriction.READ_WRITE, false, Long.MAX_VALUE / 16, Long.MAX_VALUE, 0, 8 );
+		final StorageTraceReplay.ReplayCell second = new StorageTraceReplay.ReplayCell( 0, AccessRestriction.READ_WRITE, false, Long.MAX_VALUE / 16, Long.MAX_VALUE, 0, 8 );
+		first.injectItems( new StorageTraceReplay.ReplayStack( 0, 100 ), Actionable.MODULATE, null );
+		network.getPriorityInventory().computeIfAbsent( 1, $ -> new ArrayList<>() ).add( first );
+		network.getPriorityInventory().computeIfAbsent( 0, $ -> new ArrayList<>() ).add( second );
+
+		final IActionSource src = new StorageTraceReplay.ReplaySource();
+		final File trace = File.createTempFile( "ae2-trace", ".bin" );
+		trace.deleteOnExit();
+
+		StorageTraceRecorder.INSTANCE.start( trace );
+		for( int round = 0; round < ROUNDS; round++ )
+		{
+			for( int type = 0; type < TYPES; type++ )
+			{
+				network.injectItems( new StorageTraceReplay.ReplayStack( type, 64 ), Actionable.MODULATE, src );
+				network.extractItems( new StorageTraceReplay.ReplayStack( type, 48 ), Actionable.SIMULATE, src );
+				network.extractItems( new StorageTraceReplay.ReplayStack( type, 32 ), Actionable.MODULATE, src );
+			}
+
+			final IItemList<StorageTraceReplay.ReplayStack> requests = new StorageTraceReplay.ReplayList();
+			requests.add( new StorageTraceReplay.ReplayStack( round, 10 ) );
+			requests.add( new StorageTraceReplay.ReplayStack( TYPES + round, 10 ) );
+			network.extractItems( requests, Actionable.MODULATE, src );
+		}
+		StorageTraceRecorder.INSTANCE.stop();
+
+		final StorageTraceReplay.Report report;
+		try( InputStream in = new FileInputStream( trace ) )
+		{
+			report = StorageTraceReplay.replay( in );
+		}
+
+		assertThat( report.getOperations(), is( (long) ROUNDS * ( TYPES * 3 + 1 ) ) );
+		assertThat( report.getMismatches(), is( 0L ) );
+	}
+}